@@ -0,0 +1,37 @@
+package com.artistalbum.config;
+
+import com.artistalbum.dto.FieldSelection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Aplica {@code ?fields=} na serialização: apenas os campos solicitados dos DTOs de álbum e artista
+ * são escritos no JSON. A seleção também é repassada aos serviços, que deixam de consultar
+ * e montar o que não foi pedido.
+ */
+@RestControllerAdvice
+public class FieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection fields = FieldSelection.parse(servletRequest.getServletRequest().getParameter("fields"));
+        if (fields.isAll()) {
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider().addFilter(JacksonConfig.FIELDS_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(fields.getFields())));
+    }
+}
@@ -0,0 +1,42 @@
+package com.artistalbum.config;
+
+import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.dto.ArtistDTO;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Configuração do ObjectMapper das respostas HTTP.
+ * Registra o filtro de sparse fieldsets nos DTOs de álbum e artista; por padrão ele serializa todos os
+ * campos e só restringe a saída quando a requisição informa {@code ?fields=} (ver {@link FieldsResponseBodyAdvice}).
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String FIELDS_FILTER = "fields";
+
+    private static final Set<Class<?>> FILTERED_TYPES = Set.of(AlbumDTO.Response.class, ArtistDTO.Response.class);
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldsFilterCustomizer() {
+        return builder -> builder
+                .annotationIntrospector(new JacksonAnnotationIntrospector() {
+                    @Override
+                    public Object findFilterId(Annotated annotated) {
+                        if (annotated instanceof AnnotatedClass && FILTERED_TYPES.contains(annotated.getRawType())) {
+                            return FIELDS_FILTER;
+                        }
+                        return super.findFilterId(annotated);
+                    }
+                })
+                .filters(new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
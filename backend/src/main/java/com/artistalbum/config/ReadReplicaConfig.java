@@ -0,0 +1,108 @@
+package com.artistalbum.config;
+
+import com.artistalbum.datasource.ReadYourWritesFilter;
+import com.artistalbum.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Réplicas de leitura. Ativada apenas quando {@code datasource.read-replicas.urls} é informado;
+ * caso contrário, o DataSource padrão do Spring Boot (somente o primário) é usado.
+ * <p>
+ * O DataSource principal da aplicação passa a ser um {@link LazyConnectionDataSourceProxy}
+ * sobre o {@link ReplicaRoutingDataSource}: transações readOnly vão às réplicas, o restante
+ * (incluindo Flyway e JdbcTemplate fora de transação) ao primário.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.read-replicas.urls:}'.isBlank()")
+@Slf4j
+public class ReadReplicaConfig {
+
+    @Value("${datasource.read-replicas.urls}")
+    private String urls;
+
+    @Value("${datasource.read-replicas.username:}")
+    private String username;
+
+    @Value("${datasource.read-replicas.password:}")
+    private String password;
+
+    @Value("${datasource.read-replicas.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${datasource.read-replicas.connection-timeout:2s}")
+    private Duration connectionTimeout;
+
+    @Value("${datasource.read-replicas.max-lag:5s}")
+    private Duration maxLag;
+
+    @Value("${datasource.read-replicas.health-check-interval:5s}")
+    private Duration healthCheckInterval;
+
+    @Value("${datasource.read-replicas.sticky-window:5s}")
+    private Duration stickyWindow;
+
+    /**
+     * Pool do primário, com as mesmas propriedades do DataSource padrão (spring.datasource.*).
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary, DataSourceProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        String[] replicaUrls = urls.split(",");
+        for (int i = 0; i < replicaUrls.length; i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(replicaUrls[i].trim());
+            config.setUsername(username.isBlank() ? properties.determineUsername() : username);
+            config.setPassword(password.isBlank() ? properties.determinePassword() : password);
+            config.setDriverClassName(properties.determineDriverClassName());
+            config.setReadOnly(true);
+            config.setMaximumPoolSize(maximumPoolSize);
+            // Réplica fora do ar: falha rápido para a leitura seguir no primário, sem impedir a inicialização
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setInitializationFailTimeout(-1);
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        log.info("Leituras readOnly encaminhadas a {} réplica(s)", replicas.size());
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, healthCheckInterval);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyWindow, Clock.systemUTC()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
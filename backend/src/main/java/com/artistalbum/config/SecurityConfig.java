@@ -1,10 +1,12 @@
 package com.artistalbum.config;
 
+import com.artistalbum.datasource.ReadYourWritesFilter;
 import com.artistalbum.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -57,6 +59,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/v1/**").authenticated()
                 .requestMatchers(HttpMethod.POST, "/api/v1/**").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/api/v1/**").authenticated()
+                .requestMatchers(HttpMethod.PATCH, "/api/v1/**").authenticated()
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/**").authenticated()
                 .anyRequest().authenticated()
             )
@@ -77,15 +80,24 @@ public class SecurityConfig {
         List<String> origins = Arrays.asList(allowedOrigins.split(","));
         configuration.setAllowedOrigins(origins);
         
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList(
             "Authorization", 
             "Content-Type", 
             "X-Requested-With",
             "Accept",
-            "Origin"
+            "Origin",
+            HttpHeaders.IF_MATCH,
+            HttpHeaders.IF_NONE_MATCH,
+            HttpHeaders.IF_MODIFIED_SINCE,
+            ReadYourWritesFilter.HEADER
+        ));
+        configuration.setExposedHeaders(Arrays.asList(
+            "Authorization",
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED,
+            ReadYourWritesFilter.HEADER
         ));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
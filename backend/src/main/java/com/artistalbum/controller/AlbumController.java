@@ -2,6 +2,12 @@ package com.artistalbum.controller;
 
 import com.artistalbum.dto.AlbumDTO;
 import com.artistalbum.dto.ApiResponse;
+import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.dto.MultiGetResponse;
+import com.artistalbum.dto.SlicePage;
 import com.artistalbum.service.AlbumService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,10 +19,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -35,7 +43,8 @@ public class AlbumController {
     private final AlbumService albumService;
 
     @GetMapping
-    @Operation(summary = "Listar álbuns", description = "Lista todos os álbuns com paginação e filtros")
+    @Operation(summary = "Listar álbuns",
+            description = "Lista álbuns com paginação. Os filtros informados são combinados (AND) em uma única consulta.")
     public ResponseEntity<ApiResponse<Page<AlbumDTO.Response>>> findAll(
             @Parameter(description = "Filtro por título do álbum")
             @RequestParam(required = false) String title,
@@ -43,32 +52,143 @@ public class AlbumController {
             @RequestParam(required = false) String artistName,
             @Parameter(description = "Filtro por ID do artista")
             @RequestParam(required = false) Long artistId,
+            @Parameter(description = "Filtro por gênero (exato, sem diferenciar maiúsculas)")
+            @RequestParam(required = false) String genre,
+            @Parameter(description = "Ano de lançamento mínimo")
+            @RequestParam(required = false) Integer releaseYearFrom,
+            @Parameter(description = "Ano de lançamento máximo")
+            @RequestParam(required = false) Integer releaseYearTo,
+            @Parameter(description = "Filtro por gravadora (exato, sem diferenciar maiúsculas)")
+            @RequestParam(required = false) String recordLabel,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,covers)")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Parâmetros de paginação e ordenação")
+            @PageableDefault(size = 10, sort = "title", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest webRequest) {
+        ListingParameters.rejectCombinedModes(webRequest);
+
+        AlbumDTO.Filter filter = AlbumDTO.Filter.builder()
+                .title(title)
+                .artistName(artistName)
+                .artistId(artistId)
+                .genre(genre)
+                .releaseYearFrom(releaseYearFrom)
+                .releaseYearTo(releaseYearTo)
+                .recordLabel(recordLabel)
+                .build();
+        log.debug("Listando álbuns - filtros: {}", filter);
+
+        Page<AlbumDTO.Response> albums = albumService.search(filter, pageable, FieldSelection.parse(fields));
+        return ResponseEntity.ok(ApiResponse.success(albums));
+    }
+
+    @GetMapping(params = {"count", "!after", "!ids"})
+    @Operation(summary = "Listar álbuns escolhendo a contagem",
+            description = "Mesmos filtros da listagem. count=none omite o total (sem COUNT); " +
+                    "count=estimate retorna um total aproximado com exact=false; count=exact executa o COUNT.")
+    public ResponseEntity<ApiResponse<SlicePage<AlbumDTO.Response>>> findAllWithCountMode(
+            @Parameter(description = "Modo de contagem: exact, estimate ou none")
+            @RequestParam String count,
+            @Parameter(description = "Filtros combináveis (title, artistName, artistId, genre, " +
+                    "releaseYearFrom, releaseYearTo, recordLabel)")
+            @ModelAttribute AlbumDTO.Filter filter,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,covers)")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Parâmetros de paginação e ordenação")
             @PageableDefault(size = 10, sort = "title", direction = Sort.Direction.ASC) Pageable pageable) {
-        
-        log.debug("Listando álbuns - título: {}, artista: {}, artistId: {}", title, artistName, artistId);
-        
-        Page<AlbumDTO.Response> albums;
-        if (artistId != null) {
-            albums = albumService.findByArtistId(artistId, pageable);
-        } else if (artistName != null && !artistName.isBlank()) {
-            albums = albumService.findByArtistName(artistName, pageable);
-        } else if (title != null && !title.isBlank()) {
-            albums = albumService.findByTitle(title, pageable);
-        } else {
-            albums = albumService.findAll(pageable);
-        }
-        
+        log.debug("Listando álbuns - filtros: {}, contagem: {}", filter, count);
+        SlicePage<AlbumDTO.Response> albums =
+                albumService.searchSlice(filter, pageable, SlicePage.CountMode.from(count),
+                        FieldSelection.parse(fields));
+        return ResponseEntity.ok(ApiResponse.success(albums));
+    }
+
+    @GetMapping(params = {"ids", "!after", "!count"})
+    @Operation(summary = "Buscar álbuns por lista de IDs",
+            description = "Retorna os álbuns na ordem solicitada (máximo 100 IDs) e lista os IDs não encontrados.")
+    public ResponseEntity<ApiResponse<MultiGetResponse<AlbumDTO.Response>>> findAllByIds(
+            @Parameter(description = "IDs separados por vírgula")
+            @RequestParam List<Long> ids,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,covers)")
+            @RequestParam(required = false) String fields) {
+        log.debug("Buscando álbuns por IDs: {}", ids);
+        MultiGetResponse<AlbumDTO.Response> albums = albumService.findAllByIds(ids, FieldSelection.parse(fields));
+        return ResponseEntity.ok(ApiResponse.success(albums));
+    }
+
+    @GetMapping(params = {"after", "!count", "!ids"})
+    @Operation(summary = "Listar álbuns por cursor",
+            description = "Lista álbuns ordenados por título usando paginação por cursor, com os mesmos filtros " +
+                    "da listagem (reenvie-os em cada página). Envie after vazio para a primeira página e o " +
+                    "nextCursor retornado para as seguintes. Não aceita sort, page, count nem ids.")
+    public ResponseEntity<ApiResponse<CursorPage<AlbumDTO.Response>>> findAllByCursor(
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam String after,
+            @Parameter(description = "Filtros combináveis (title, artistName, artistId, genre, " +
+                    "releaseYearFrom, releaseYearTo, recordLabel)")
+            @ModelAttribute AlbumDTO.Filter filter,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,covers)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        ListingParameters.rejectPageableOnCursor(webRequest, "título");
+        log.debug("Listando álbuns por cursor - filtros: {}, tamanho: {}", filter, size);
+        CursorPage<AlbumDTO.Response> albums =
+                albumService.findAllByCursor(filter, after, size, FieldSelection.parse(fields));
         return ResponseEntity.ok(ApiResponse.success(albums));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar álbum por ID", description = "Retorna um álbum específico com artistas e capas")
+    @Operation(summary = "Buscar álbum por ID", description = "Retorna um álbum específico com a primeira página de artistas e capas. " +
+                    "Responde 304 sem corpo quando If-None-Match/If-Modified-Since correspondem à versão atual")
     public ResponseEntity<ApiResponse<AlbumDTO.Response>> findById(
-            @Parameter(description = "ID do álbum") @PathVariable Long id) {
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,covers)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.debug("Buscando álbum por ID: {}", id);
-        AlbumDTO.Response album = albumService.findById(id);
-        return ResponseEntity.ok(ApiResponse.success(album));
+        FieldSelection selection = FieldSelection.parse(fields);
+        // Validação condicional antes de carregar a entidade: uma leitura da versão e 304 se inalterado
+        EntityTag.Validators validators = albumService.findValidators(id, selection);
+        if (webRequest.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return null;
+        }
+        AlbumDTO.Response album = albumService.findById(id, selection);
+        return ResponseEntity.ok()
+                .eTag(validators.eTag())
+                .lastModified(validators.lastModified())
+                .body(ApiResponse.success(album));
+    }
+
+    @GetMapping("/{id}/artists")
+    @Operation(summary = "Listar artistas do álbum",
+            description = "Lista os artistas do álbum por cursor, em ordem de ID. A primeira página é a incluída " +
+                    "no detalhe do álbum; envie o artistsNextCursor do detalhe para continuar a partir dela.")
+    public ResponseEntity<ApiResponse<CursorPage<ArtistDTO.Summary>>> findArtists(
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(defaultValue = "") String after,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Listando artistas do álbum {} por cursor - tamanho: {}", id, size);
+        CursorPage<ArtistDTO.Summary> artists = albumService.findArtists(id, after, size);
+        return ResponseEntity.ok(ApiResponse.success(artists));
+    }
+
+    @GetMapping("/{id}/covers")
+    @Operation(summary = "Listar capas do álbum",
+            description = "Lista as capas do álbum por cursor, em ordem de ID, com URLs pré-assinadas. A primeira " +
+                    "página é a incluída no detalhe do álbum; envie o coversNextCursor do detalhe para continuar.")
+    public ResponseEntity<ApiResponse<CursorPage<AlbumDTO.CoverResponse>>> findCovers(
+            @Parameter(description = "ID do álbum") @PathVariable Long id,
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(defaultValue = "") String after,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Listando capas do álbum {} por cursor - tamanho: {}", id, size);
+        CursorPage<AlbumDTO.CoverResponse> covers = albumService.findCovers(id, after, size);
+        return ResponseEntity.ok(ApiResponse.success(covers));
     }
 
     @PostMapping
@@ -85,10 +205,17 @@ public class AlbumController {
     @Operation(summary = "Atualizar álbum", description = "Atualiza um álbum existente")
     public ResponseEntity<ApiResponse<AlbumDTO.Response>> update(
             @Parameter(description = "ID do álbum") @PathVariable Long id,
-            @Valid @RequestBody AlbumDTO.Request request) {
+            @Valid @RequestBody AlbumDTO.Request request,
+            @Parameter(description = "ETag obtida na leitura; se o recurso ou seus vínculos mudaram desde então, retorna 412")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Atualizando álbum ID: {}", id);
-        AlbumDTO.Response album = albumService.update(id, request);
-        return ResponseEntity.ok(ApiResponse.success("Álbum atualizado com sucesso", album));
+        AlbumDTO.Response album = albumService.update(id, request, EntityTag.parseIfMatch(ifMatch));
+        // Mesmos validadores do GET da representação completa, que o cliente reenvia em If-Match
+        EntityTag.Validators validators = albumService.findValidators(id, FieldSelection.all());
+        return ResponseEntity.ok()
+                .eTag(validators.eTag())
+                .lastModified(validators.lastModified())
+                .body(ApiResponse.success("Álbum atualizado com sucesso", album));
     }
 
     @DeleteMapping("/{id}")
@@ -1,7 +1,13 @@
 package com.artistalbum.controller;
 
+import com.artistalbum.dto.AlbumDTO;
 import com.artistalbum.dto.ApiResponse;
 import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.dto.MultiGetResponse;
+import com.artistalbum.dto.SlicePage;
 import com.artistalbum.service.ArtistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +19,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * Controller para gerenciamento de artistas.
@@ -35,28 +45,114 @@ public class ArtistController {
     public ResponseEntity<ApiResponse<Page<ArtistDTO.Response>>> findAll(
             @Parameter(description = "Filtro por nome do artista")
             @RequestParam(required = false) String name,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,name,imageUrl)")
+            @RequestParam(required = false) String fields,
             @Parameter(description = "Parâmetros de paginação e ordenação")
-            @PageableDefault(size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
-        
+            @PageableDefault(size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest webRequest) {
+        ListingParameters.rejectCombinedModes(webRequest);
         log.debug("Listando artistas - filtro: {}, página: {}", name, pageable.getPageNumber());
         
         Page<ArtistDTO.Response> artists;
         if (name != null && !name.isBlank()) {
-            artists = artistService.findByName(name, pageable);
+            artists = artistService.findByName(name, pageable, FieldSelection.parse(fields));
         } else {
-            artists = artistService.findAll(pageable);
+            artists = artistService.findAll(pageable, FieldSelection.parse(fields));
         }
         
         return ResponseEntity.ok(ApiResponse.success(artists));
     }
 
+    @GetMapping(params = {"count", "!after", "!ids"})
+    @Operation(summary = "Listar artistas escolhendo a contagem",
+            description = "count=none omite o total (sem COUNT); count=estimate retorna um total " +
+                    "aproximado com exact=false; count=exact executa o COUNT.")
+    public ResponseEntity<ApiResponse<SlicePage<ArtistDTO.Response>>> findAllWithCountMode(
+            @Parameter(description = "Modo de contagem: exact, estimate ou none")
+            @RequestParam String count,
+            @Parameter(description = "Filtro por nome do artista")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,name,imageUrl)")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Parâmetros de paginação e ordenação")
+            @PageableDefault(size = 10, sort = "name", direction = Sort.Direction.ASC) Pageable pageable) {
+        log.debug("Listando artistas - filtro: {}, contagem: {}", name, count);
+        SlicePage<ArtistDTO.Response> artists =
+                artistService.findAllSlice(name, pageable, SlicePage.CountMode.from(count),
+                        FieldSelection.parse(fields));
+        return ResponseEntity.ok(ApiResponse.success(artists));
+    }
+
+    @GetMapping(params = {"ids", "!after", "!count"})
+    @Operation(summary = "Buscar artistas por lista de IDs",
+            description = "Retorna os artistas na ordem solicitada (máximo 100 IDs) e lista os IDs não encontrados.")
+    public ResponseEntity<ApiResponse<MultiGetResponse<ArtistDTO.Response>>> findAllByIds(
+            @Parameter(description = "IDs separados por vírgula")
+            @RequestParam List<Long> ids,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,name,imageUrl)")
+            @RequestParam(required = false) String fields) {
+        log.debug("Buscando artistas por IDs: {}", ids);
+        MultiGetResponse<ArtistDTO.Response> artists = artistService.findAllByIds(ids, FieldSelection.parse(fields));
+        return ResponseEntity.ok(ApiResponse.success(artists));
+    }
+
+    @GetMapping(params = {"after", "!count", "!ids"})
+    @Operation(summary = "Listar artistas por cursor",
+            description = "Lista artistas ordenados por nome usando paginação por cursor, opcionalmente filtrados " +
+                    "por nome (reenvie o filtro em cada página). Envie after vazio para a primeira página e o " +
+                    "nextCursor retornado para as seguintes. Não aceita sort, page, count nem ids.")
+    public ResponseEntity<ApiResponse<CursorPage<ArtistDTO.Response>>> findAllByCursor(
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam String after,
+            @Parameter(description = "Filtro por nome do artista")
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,name,imageUrl)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        ListingParameters.rejectPageableOnCursor(webRequest, "nome");
+        log.debug("Listando artistas por cursor - filtro: {}, tamanho: {}", name, size);
+        CursorPage<ArtistDTO.Response> artists =
+                artistService.findAllByCursor(name, after, size, FieldSelection.parse(fields));
+        return ResponseEntity.ok(ApiResponse.success(artists));
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "Buscar artista por ID", description = "Retorna um artista específico com seus álbuns")
+    @Operation(summary = "Buscar artista por ID", description = "Retorna um artista específico com a primeira página de seus álbuns. " +
+                    "Responde 304 sem corpo quando If-None-Match/If-Modified-Since correspondem à versão atual")
     public ResponseEntity<ApiResponse<ArtistDTO.Response>> findById(
-            @Parameter(description = "ID do artista") @PathVariable Long id) {
+            @Parameter(description = "ID do artista") @PathVariable Long id,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,name,imageUrl)")
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
         log.debug("Buscando artista por ID: {}", id);
-        ArtistDTO.Response artist = artistService.findById(id);
-        return ResponseEntity.ok(ApiResponse.success(artist));
+        FieldSelection selection = FieldSelection.parse(fields);
+        // Validação condicional antes de carregar a entidade: uma leitura da versão e 304 se inalterado
+        EntityTag.Validators validators = artistService.findValidators(id, selection);
+        if (webRequest.checkNotModified(validators.eTag(), validators.lastModified())) {
+            return null;
+        }
+        ArtistDTO.Response artist = artistService.findById(id, selection);
+        return ResponseEntity.ok()
+                .eTag(validators.eTag())
+                .lastModified(validators.lastModified())
+                .body(ApiResponse.success(artist));
+    }
+
+    @GetMapping("/{id}/albums")
+    @Operation(summary = "Listar álbuns do artista",
+            description = "Lista os álbuns do artista por cursor, em ordem de ID, com a URL da capa principal. " +
+                    "A primeira página é a incluída no detalhe do artista; envie o albumsNextCursor do detalhe para continuar.")
+    public ResponseEntity<ApiResponse<CursorPage<AlbumDTO.Summary>>> findAlbums(
+            @Parameter(description = "ID do artista") @PathVariable Long id,
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(defaultValue = "") String after,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)")
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Listando álbuns do artista {} por cursor - tamanho: {}", id, size);
+        CursorPage<AlbumDTO.Summary> albums = artistService.findAlbums(id, after, size);
+        return ResponseEntity.ok(ApiResponse.success(albums));
     }
 
     @PostMapping
@@ -73,10 +169,17 @@ public class ArtistController {
     @Operation(summary = "Atualizar artista", description = "Atualiza um artista existente")
     public ResponseEntity<ApiResponse<ArtistDTO.Response>> update(
             @Parameter(description = "ID do artista") @PathVariable Long id,
-            @Valid @RequestBody ArtistDTO.Request request) {
+            @Valid @RequestBody ArtistDTO.Request request,
+            @Parameter(description = "ETag obtida na leitura; se o recurso ou seus vínculos mudaram desde então, retorna 412")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Atualizando artista ID: {}", id);
-        ArtistDTO.Response artist = artistService.update(id, request);
-        return ResponseEntity.ok(ApiResponse.success("Artista atualizado com sucesso", artist));
+        ArtistDTO.Response artist = artistService.update(id, request, EntityTag.parseIfMatch(ifMatch));
+        // Mesmos validadores do GET da representação completa, que o cliente reenvia em If-Match
+        EntityTag.Validators validators = artistService.findValidators(id, FieldSelection.all());
+        return ResponseEntity.ok()
+                .eTag(validators.eTag())
+                .lastModified(validators.lastModified())
+                .body(ApiResponse.success("Artista atualizado com sucesso", artist));
     }
 
     @DeleteMapping("/{id}")
@@ -107,4 +210,21 @@ public class ArtistController {
         ArtistDTO.Response artist = artistService.removeAlbum(artistId, albumId);
         return ResponseEntity.ok(ApiResponse.success("Álbum removido do artista", artist));
     }
+
+    @PatchMapping("/{artistId}/albums")
+    @Operation(summary = "Atualizar vínculos com álbuns",
+            description = "Inclui e remove vários vínculos com álbuns em uma operação (até 1000 IDs). " +
+                    "Vínculos já existentes ou já ausentes são ignorados; a resposta traz a contagem de álbuns")
+    public ResponseEntity<ApiResponse<ArtistDTO.Response>> updateAlbums(
+            @Parameter(description = "ID do artista") @PathVariable Long artistId,
+            @RequestBody ArtistDTO.AlbumLinks links) {
+        log.info("Atualizando vínculos de álbuns do artista {}", artistId);
+        ArtistDTO.Response artist = artistService.updateAlbums(artistId, links);
+        // Mesmos validadores do GET da representação completa, que o cliente reenvia em If-Match
+        EntityTag.Validators validators = artistService.findValidators(artistId, FieldSelection.all());
+        return ResponseEntity.ok()
+                .eTag(validators.eTag())
+                .lastModified(validators.lastModified())
+                .body(ApiResponse.success("Vínculos com álbuns atualizados", artist));
+    }
 }
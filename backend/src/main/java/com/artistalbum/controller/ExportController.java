@@ -0,0 +1,49 @@
+package com.artistalbum.controller;
+
+import com.artistalbum.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controller de exportação do catálogo em NDJSON (application/x-ndjson).
+ * Endpoints versionados: /api/v1/export
+ */
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Exportação", description = "Exportação completa do catálogo em NDJSON")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    @GetMapping("/albums")
+    @Operation(summary = "Exportar álbuns",
+            description = "Transmite todos os álbuns, um objeto JSON por linha, em uma única leitura do banco")
+    public ResponseEntity<StreamingResponseBody> exportAlbums() {
+        log.info("Iniciando exportação de álbuns");
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(exportService::exportAlbums);
+    }
+
+    @GetMapping("/artists")
+    @Operation(summary = "Exportar artistas",
+            description = "Transmite todos os artistas, um objeto JSON por linha, em uma única leitura do banco")
+    public ResponseEntity<StreamingResponseBody> exportArtists() {
+        log.info("Iniciando exportação de artistas");
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(exportService::exportArtists);
+    }
+}
@@ -0,0 +1,68 @@
+package com.artistalbum.controller;
+
+import com.artistalbum.dto.ImportDTO;
+import com.artistalbum.service.ImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Controller de importação em massa do catálogo.
+ * Endpoints versionados: /api/v1/import
+ */
+@RestController
+@RequestMapping("/api/v1/import")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Importação", description = "Importação em massa de artistas, álbuns e vínculos")
+public class ImportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    @Operation(summary = "Importar catálogo",
+            description = "Recebe NDJSON ou CSV com registros do tipo artist, album ou link. " +
+                    "Artistas e álbuns já cadastrados (mesmo nome/título) não são duplicados. " +
+                    "A resposta transmite, em NDJSON, eventos progress a cada lote, error por linha rejeitada " +
+                    "e done com o resumo final.")
+    public ResponseEntity<StreamingResponseBody> importCatalog(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        ImportDTO.Format format = ImportDTO.Format.fromContentType(contentType);
+        InputStream body = request.getInputStream();
+        log.info("Iniciando importação do catálogo ({})", format);
+
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody stream = out -> importService.importCatalog(body, format, progress -> {
+            try {
+                out.write(writer.writeValueAsBytes(progress));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(stream);
+    }
+}
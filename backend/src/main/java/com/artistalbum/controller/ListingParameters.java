@@ -0,0 +1,40 @@
+package com.artistalbum.controller;
+
+import com.artistalbum.exception.BusinessException;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.stream.Stream;
+
+/**
+ * Combinações de parâmetros das listagens de álbuns e artistas.
+ * <p>
+ * after (cursor), count (modo de contagem) e ids (busca por IDs) selecionam mapeamentos distintos,
+ * declarados com exclusão mútua ({@code params = {"after", "!count", "!ids"}} etc.); uma requisição
+ * com mais de um deles cai na listagem padrão, que a rejeita com 400.
+ */
+final class ListingParameters {
+
+    private ListingParameters() {
+    }
+
+    /**
+     * Rejeita, na listagem padrão, requisições que combinam after, count e ids.
+     */
+    static void rejectCombinedModes(WebRequest request) {
+        if (Stream.of("after", "count", "ids").anyMatch(name -> request.getParameter(name) != null)) {
+            throw new BusinessException("Os parâmetros after, count e ids não podem ser combinados");
+        }
+    }
+
+    /**
+     * Rejeita sort e page na listagem por cursor, cuja ordem é fixa.
+     *
+     * @param order descrição da ordem do cursor, para a mensagem
+     */
+    static void rejectPageableOnCursor(WebRequest request, String order) {
+        if (request.getParameter("sort") != null || request.getParameter("page") != null) {
+            throw new BusinessException("A listagem por cursor é ordenada por " + order
+                    + "; os parâmetros sort e page não se aplicam");
+        }
+    }
+}
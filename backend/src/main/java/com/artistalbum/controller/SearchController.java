@@ -0,0 +1,60 @@
+package com.artistalbum.controller;
+
+import com.artistalbum.dto.ApiResponse;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.SearchDTO;
+import com.artistalbum.service.SearchService;
+import com.artistalbum.service.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller de busca textual e sugestões.
+ * Endpoints versionados: /api/v1/search
+ */
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Busca", description = "Busca textual sobre álbuns e artistas")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final SuggestService suggestService;
+
+    @GetMapping
+    @Operation(summary = "Buscar álbuns e artistas",
+            description = "Busca textual ranqueada por relevância (ts_rank), sem diferenciar acentos. " +
+                    "Use o nextCursor retornado no parâmetro after para a próxima página.")
+    public ResponseEntity<ApiResponse<CursorPage<SearchDTO.Hit>>> search(
+            @Parameter(description = "Termos de busca")
+            @RequestParam String q,
+            @Parameter(description = "Cursor opaco retornado pela página anterior")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)")
+            @RequestParam(defaultValue = "10") int size) {
+        log.debug("Busca textual - termo: {}, tamanho: {}", q, size);
+        CursorPage<SearchDTO.Hit> hits = searchService.search(q, after, size);
+        return ResponseEntity.ok(ApiResponse.success(hits));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Sugestões de busca",
+            description = "Sugere álbuns e artistas cujas palavras começam com os termos digitados. " +
+                    "Servido por índice em memória, para uso enquanto o usuário digita.")
+    public ResponseEntity<ApiResponse<List<SearchDTO.Suggestion>>> suggest(
+            @Parameter(description = "Termos digitados")
+            @RequestParam String q,
+            @Parameter(description = "Quantidade máxima de sugestões (máximo 20)")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SearchDTO.Suggestion> suggestions = suggestService.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+}
@@ -0,0 +1,73 @@
+package com.artistalbum.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Leitura das próprias escritas com réplicas: requisições de escrita respondem com o cabeçalho
+ * {@value #HEADER} (instante da escrita, em epoch millis). Enquanto o cliente reenviar esse valor
+ * dentro da janela configurada, suas leituras são servidas pelo primário, sem depender do atraso
+ * de replicação. Requisições de escrita sempre usam o primário, inclusive nas leituras que fizerem.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final Duration stickyWindow;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration stickyWindow, Clock clock) {
+        this.stickyWindow = stickyWindow;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        long now = clock.millis();
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            // Definido antes da cadeia: o corpo da resposta pode ser enviado antes do retorno
+            response.setHeader(HEADER, String.valueOf(now));
+        }
+
+        if (write || withinWindow(request.getHeader(HEADER), now)) {
+            ReplicaRoutingDataSource.requirePrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.clearPrimaryRequired();
+        }
+    }
+
+    private boolean withinWindow(String token, long now) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            long writtenAt = Long.parseLong(token.trim());
+            // Tokens no futuro (relógio do cliente ou valor forjado) valem só até o fim de uma janela
+            return writtenAt <= now + stickyWindow.toMillis() && now - writtenAt < stickyWindow.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
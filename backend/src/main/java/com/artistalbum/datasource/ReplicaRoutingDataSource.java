@@ -0,0 +1,217 @@
+package com.artistalbum.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Encaminha transações somente leitura ({@code @Transactional(readOnly = true)}) às réplicas
+ * e todo o resto ao primário.
+ * <p>
+ * Deve ser usado atrás de um {@code LazyConnectionDataSourceProxy}: a conexão só é obtida no primeiro
+ * comando, quando o flag de somente leitura da transação já está definido.
+ * <p>
+ * Réplicas são escolhidas em rodízio entre as saudáveis. Uma verificação periódica marca como
+ * indisponível a réplica que não responde ou cujo atraso de replicação excede {@code maxLag};
+ * falha ao obter conexão também a marca, e a leitura segue no primário. Sem réplicas saudáveis,
+ * ou quando a requisição exige leitura das próprias escritas ({@link #requirePrimary}), tudo vai ao primário.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    /**
+     * Atraso de replicação em segundos; zero quando a réplica já aplicou tudo o que recebeu
+     * (evita acusar atraso em um primário sem escritas recentes).
+     */
+    private static final String LAG_SQL = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Duration maxLag;
+    private final Duration healthCheckInterval;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration maxLag, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.maxLag = maxLag;
+        this.healthCheckInterval = healthCheckInterval;
+
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            this.replicas.add(new Replica(name, dataSource));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Exige o primário para as conexões obtidas por esta thread até {@link #clearPrimaryRequired()}.
+     */
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static void clearPrimaryRequired() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Executa a ação exigindo o primário e restaura o estado anterior da thread ao final.
+     * Para cargas que populam caches: uma réplica atrasada devolveria a versão anterior à alteração,
+     * que voltaria ao cache logo depois da invalidação. A transação deve começar dentro da ação,
+     * ou ainda não ter obtido conexão.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0,
+                healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(PRIMARY_REQUIRED.get())) {
+            return PRIMARY;
+        }
+        List<Replica> healthy = replicas.stream().filter(replica -> replica.healthy).toList();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).name;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return getResolvedDataSources().get(key).getConnection();
+        } catch (SQLException e) {
+            markDown(key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return getResolvedDataSources().get(key).getConnection(username, password);
+        } catch (SQLException e) {
+            markDown(key, e.getMessage());
+            return primary.getConnection(username, password);
+        }
+    }
+
+    /**
+     * Verifica cada réplica: conexão e atraso de replicação dentro do limite.
+     */
+    void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                double lagSeconds = rs.next() ? rs.getDouble(1) : 0;
+                if (lagSeconds * 1000 > maxLag.toMillis()) {
+                    markDown(replica.name, String.format("atraso de replicação de %.1f s", lagSeconds));
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Réplica {} disponível novamente para leituras", replica.name);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica.name, e.getMessage());
+            }
+        }
+    }
+
+    private void markDown(Object name, String reason) {
+        replicas.stream()
+                .filter(replica -> replica.name.equals(name) && replica.healthy)
+                .forEach(replica -> {
+                    replica.healthy = false;
+                    log.warn("Réplica {} indisponível ({}); leituras seguem no primário ou nas demais réplicas",
+                            replica.name, reason);
+                });
+    }
+
+    /**
+     * Nomes das réplicas saudáveis no momento.
+     */
+    public List<String> healthyReplicas() {
+        return replicas.stream().filter(replica -> replica.healthy).map(replica -> replica.name).toList();
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -2,13 +2,13 @@ package com.artistalbum.dto;
 
 import com.artistalbum.entity.Album;
 import com.artistalbum.entity.AlbumCover;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * DTO para transferência de dados de álbuns.
@@ -39,10 +39,27 @@ public class AlbumDTO {
         private List<Long> artistIds;
     }
 
+    /**
+     * Filtros combináveis da listagem de álbuns. Campos nulos ou vazios são ignorados.
+     */
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    public static class Filter {
+        private String title;
+        private String artistName;
+        private Long artistId;
+        private String genre;
+        private Integer releaseYearFrom;
+        private Integer releaseYearTo;
+        private String recordLabel;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
     public static class Response {
         private Long id;
         private String title;
@@ -51,8 +68,13 @@ public class AlbumDTO {
         private String recordLabel;
         private Integer totalTracks;
         private String description;
+        /** Primeira página dos artistas; os demais em /albums/{id}/artists a partir de {@link #artistsNextCursor}. */
         private List<ArtistDTO.Summary> artists;
+        private String artistsNextCursor;
+        /** Primeira página das capas; as demais em /albums/{id}/covers a partir de {@link #coversNextCursor}. */
         private List<CoverResponse> covers;
+        private String coversNextCursor;
+        private Long version;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
@@ -67,58 +89,62 @@ public class AlbumDTO {
                     .description(album.getDescription())
                     .createdAt(album.getCreatedAt())
                     .updatedAt(album.getUpdatedAt())
+                    .version(album.getVersion())
                     .build();
         }
 
-        public static Response fromEntityWithDetails(Album album) {
-            Response response = fromEntity(album);
-            if (album.getArtists() != null) {
-                response.setArtists(album.getArtists().stream()
-                        .map(ArtistDTO.Summary::fromEntity)
-                        .collect(Collectors.toList()));
-            }
-            if (album.getCovers() != null) {
-                response.setCovers(album.getCovers().stream()
-                        .map(CoverResponse::fromEntity)
-                        .collect(Collectors.toList()));
-            }
-            return response;
+        /**
+         * Define a primeira página dos artistas.
+         */
+        public Response withArtists(CursorPage<ArtistDTO.Summary> artists) {
+            this.artists = artists.getContent();
+            this.artistsNextCursor = artists.getNextCursor();
+            return this;
+        }
+
+        /**
+         * Define a primeira página das capas.
+         */
+        public Response withCovers(CursorPage<CoverResponse> covers) {
+            this.covers = covers.getContent();
+            this.coversNextCursor = covers.getNextCursor();
+            return this;
         }
     }
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class Summary {
         private Long id;
         private String title;
         private Integer releaseYear;
         private String genre;
+        /** URL pré-assinada da capa principal, gerada a cada resposta a partir de {@link #primaryCoverKey}. */
         private String primaryCoverUrl;
 
-        public static Summary fromEntity(Album album) {
-            Summary summary = Summary.builder()
+        @JsonIgnore
+        private String primaryCoverKey;
+
+        /**
+         * Converte sem acessar as capas do álbum; a chave da capa principal vem de consulta em lote.
+         */
+        public static Summary fromEntity(Album album, String primaryCoverKey) {
+            return Summary.builder()
                     .id(album.getId())
                     .title(album.getTitle())
                     .releaseYear(album.getReleaseYear())
                     .genre(album.getGenre())
+                    .primaryCoverKey(primaryCoverKey)
                     .build();
-            
-            if (album.getCovers() != null && !album.getCovers().isEmpty()) {
-                album.getCovers().stream()
-                        .filter(AlbumCover::getIsPrimary)
-                        .findFirst()
-                        .ifPresent(cover -> summary.setPrimaryCoverUrl(cover.getObjectKey()));
-            }
-            return summary;
         }
     }
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class CoverResponse {
         private Long id;
         private String fileName;
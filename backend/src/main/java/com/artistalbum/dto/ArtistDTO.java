@@ -7,7 +7,6 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * DTO para transferência de dados de artistas.
@@ -38,10 +37,23 @@ public class ArtistDTO {
         private List<Long> albumIds;
     }
 
+    /**
+     * Inclusão e remoção de vínculos com álbuns em uma única requisição.
+     */
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    public static class AlbumLinks {
+        private List<Long> addAlbumIds;
+
+        private List<Long> removeAlbumIds;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder(toBuilder = true)
     public static class Response {
         private Long id;
         private String name;
@@ -51,11 +63,26 @@ public class ArtistDTO {
         private String biography;
         private String imageUrl;
         private Integer albumCount;
+        /** Primeira página dos álbuns; os demais em /artists/{id}/albums a partir de {@link #albumsNextCursor}. */
         private List<AlbumDTO.Summary> albums;
+        private String albumsNextCursor;
+        private Long version;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
-        public static Response fromEntity(Artist artist) {
+        /**
+         * Converte com a contagem de álbuns já calculada, sem acessar a coleção de álbuns.
+         */
+        public static Response fromEntity(Artist artist, int albumCount) {
+            Response response = fromEntityWithoutAlbums(artist);
+            response.setAlbumCount(albumCount);
+            return response;
+        }
+
+        /**
+         * Converte apenas as colunas do artista, sem acessar a coleção de álbuns.
+         */
+        public static Response fromEntityWithoutAlbums(Artist artist) {
             return Response.builder()
                     .id(artist.getId())
                     .name(artist.getName())
@@ -64,19 +91,21 @@ public class ArtistDTO {
                     .genre(artist.getGenre())
                     .biography(artist.getBiography())
                     .imageUrl(artist.getImageUrl())
-                    .albumCount(artist.getAlbums() != null ? artist.getAlbums().size() : 0)
                     .createdAt(artist.getCreatedAt())
                     .updatedAt(artist.getUpdatedAt())
+                    .version(artist.getVersion())
                     .build();
         }
 
-        public static Response fromEntityWithAlbums(Artist artist) {
-            Response response = fromEntity(artist);
-            if (artist.getAlbums() != null) {
-                response.setAlbums(artist.getAlbums().stream()
-                        .map(AlbumDTO.Summary::fromEntity)
-                        .collect(Collectors.toList()));
-            }
+        /**
+         * Converte com a primeira página dos resumos de álbuns, sem acessar a coleção de álbuns.
+         *
+         * @param albumCount quantidade total de álbuns do artista
+         */
+        public static Response fromEntityWithAlbums(Artist artist, int albumCount, CursorPage<AlbumDTO.Summary> albums) {
+            Response response = fromEntity(artist, albumCount);
+            response.setAlbums(albums.getContent());
+            response.setAlbumsNextCursor(albums.getNextCursor());
             return response;
         }
     }
@@ -91,12 +120,15 @@ public class ArtistDTO {
         private String genre;
         private Integer albumCount;
 
-        public static Summary fromEntity(Artist artist) {
+        /**
+         * Converte com a contagem de álbuns já calculada, sem acessar a coleção de álbuns do artista.
+         */
+        public static Summary fromEntity(Artist artist, int albumCount) {
             return Summary.builder()
                     .id(artist.getId())
                     .name(artist.getName())
                     .genre(artist.getGenre())
-                    .albumCount(artist.getAlbums() != null ? artist.getAlbums().size() : 0)
+                    .albumCount(albumCount)
                     .build();
         }
     }
@@ -0,0 +1,115 @@
+package com.artistalbum.dto;
+
+import com.artistalbum.exception.BusinessException;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DTO para páginas navegadas por cursor (keyset pagination).
+ * Não informa total de registros: cada página custa o mesmo independente da profundidade.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1} linhas.
+     * A linha excedente apenas indica a existência de uma próxima página.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, Cursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext && !pageRows.isEmpty()
+                ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode()
+                : null;
+
+        return CursorPage.<T>builder()
+                .content(pageRows.stream().map(mapper).collect(Collectors.toList()))
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Primeira página de uma coleção já carregada, ordenada por ID como as listagens por cursor de ID
+     * ({@link Cursor#ofId}); as páginas seguintes vêm da consulta correspondente.
+     */
+    public static <E, T> CursorPage<T> firstById(Collection<E> loaded, int size,
+                                                 Function<E, Long> idOf,
+                                                 Function<E, T> mapper) {
+        List<E> rows = loaded.stream()
+                .sorted(Comparator.comparing(idOf))
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+        return of(rows, size, row -> Cursor.ofId(idOf.apply(row)), mapper);
+    }
+
+    /**
+     * Posição de uma linha na ordenação (chave de ordenação, id).
+     * Serializada como Base64 URL-safe opaco para o cliente.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private final String key;
+        private final Long id;
+
+        /**
+         * Cursor de listagens ordenadas apenas por ID (chave vazia).
+         */
+        public static Cursor ofId(Long id) {
+            return new Cursor("", id);
+        }
+
+        public String encode() {
+            String raw = id + ":" + key;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decodifica um cursor recebido do cliente.
+         *
+         * @return cursor decodificado, ou null para a primeira página (cursor vazio)
+         * @throws BusinessException se o cursor for inválido
+         */
+        public static Cursor decode(String encoded) {
+            if (encoded == null || encoded.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new Cursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+        }
+
+        /**
+         * ID de um cursor de listagem ordenada por ID ({@link #ofId}); 0 para a primeira página.
+         */
+        public static long decodeId(String encoded) {
+            Cursor cursor = decode(encoded);
+            return cursor == null ? 0L : cursor.getId();
+        }
+    }
+}
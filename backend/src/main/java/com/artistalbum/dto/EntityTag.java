@@ -0,0 +1,95 @@
+package com.artistalbum.dto;
+
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.exception.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validadores HTTP de um recurso: ETag (a partir da versão @Version) e Last-Modified.
+ * A ETag é a versão seguida da data de alteração, separadas por hífen ({@code "3-1700000000000"}),
+ * e da janela das URLs pré-assinadas quando a representação as inclui ({@code "3-1700000000000-42"}).
+ * Em If-Match são comparadas a versão e a data de alteração: vínculos alterados pelo outro lado da
+ * associação mudam a data sem incrementar a versão. ETags fracas são recusadas (comparação forte).
+ */
+public final class EntityTag {
+
+    private EntityTag() {
+    }
+
+    public static String of(Long version, long variant) {
+        return version != null ? "\"" + version + "-" + variant + "\"" : null;
+    }
+
+    public static String of(Long version, long variant, long window) {
+        return version != null ? "\"" + version + "-" + variant + "-" + window + "\"" : null;
+    }
+
+    /**
+     * Converte a data de alteração para o formato de Last-Modified (epoch em milissegundos).
+     *
+     * @return epoch em milissegundos, ou -1 se a data for nula (sem Last-Modified)
+     */
+    public static long epochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    /**
+     * Extrai o validador esperado de um cabeçalho If-Match.
+     *
+     * @return validador esperado, ou null se o cabeçalho estiver ausente ou for "*"
+     * @throws PreconditionFailedException se a ETag for fraca: If-Match usa comparação forte (RFC 9110)
+     * @throws BusinessException se o valor não for uma ETag emitida pela API
+     */
+    public static Precondition parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("ETags fracas não são aceitas em If-Match: " + ifMatch);
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new BusinessException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
+        String[] parts = tag.substring(1, tag.length() - 1).split("-", -1);
+        if (parts.length > 3) {
+            throw new BusinessException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
+        try {
+            long version = Long.parseLong(parts[0]);
+            Long lastModified = parts.length > 1 ? Long.valueOf(parts[1]) : null;
+            if (parts.length > 2) {
+                Long.parseLong(parts[2]);
+            }
+            return new Precondition(version, lastModified);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
+    }
+
+    /**
+     * Validador esperado por um If-Match. A janela das URLs pré-assinadas, quando presente na ETag,
+     * não faz parte da comparação: ela muda com o tempo, não com o recurso.
+     *
+     * @param lastModified data de alteração em epoch millis, ou null em ETags que trazem só a versão
+     */
+    public record Precondition(long version, Long lastModified) {
+
+        /**
+         * Indica se o recurso ainda está no estado em que o cliente o viu.
+         * ETags só com a versão não correspondem a nenhuma representação atual e nunca combinam.
+         */
+        public boolean matches(Long currentVersion, long currentLastModified) {
+            return currentVersion != null && currentVersion == version
+                    && lastModified != null && lastModified == currentLastModified;
+        }
+    }
+
+    /**
+     * ETag e Last-Modified de um recurso, obtidos sem carregar a entidade.
+     */
+    public record Validators(String eTag, long lastModified) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.artistalbum.dto;
+
+import com.artistalbum.entity.AlbumListing;
+import com.artistalbum.entity.Artist;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO das linhas da exportação NDJSON do catálogo (uma linha JSON por registro).
+ */
+public class ExportDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AlbumRow {
+        private Long id;
+        private String title;
+        private Integer releaseYear;
+        private String genre;
+        private String recordLabel;
+        private Integer totalTracks;
+        private List<Long> artistIds;
+        private List<String> artistNames;
+        private Integer coverCount;
+        private String primaryCoverKey;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public static AlbumRow fromEntity(AlbumListing listing) {
+            return AlbumRow.builder()
+                    .id(listing.getId())
+                    .title(listing.getTitle())
+                    .releaseYear(listing.getReleaseYear())
+                    .genre(listing.getGenre())
+                    .recordLabel(listing.getRecordLabel())
+                    .totalTracks(listing.getTotalTracks())
+                    .artistIds(List.of(listing.getArtistIds()))
+                    .artistNames(List.of(listing.getArtistNames()))
+                    .coverCount(listing.getCoverCount())
+                    .primaryCoverKey(listing.getPrimaryCoverKey())
+                    .createdAt(listing.getCreatedAt())
+                    .updatedAt(listing.getUpdatedAt())
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ArtistRow {
+        private Long id;
+        private String name;
+        private String country;
+        private Integer formationYear;
+        private String genre;
+        private String biography;
+        private String imageUrl;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public static ArtistRow fromEntity(Artist artist) {
+            return ArtistRow.builder()
+                    .id(artist.getId())
+                    .name(artist.getName())
+                    .country(artist.getCountry())
+                    .formationYear(artist.getFormationYear())
+                    .genre(artist.getGenre())
+                    .biography(artist.getBiography())
+                    .imageUrl(artist.getImageUrl())
+                    .createdAt(artist.getCreatedAt())
+                    .updatedAt(artist.getUpdatedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.artistalbum.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos solicitados pelo cliente via {@code ?fields=} (sparse fieldsets).
+ * Sem seleção, todos os campos são retornados. O campo {@code id} é sempre incluído.
+ */
+@EqualsAndHashCode
+@ToString
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Interpreta uma lista separada por vírgulas, ex.: {@code id,title,covers}.
+     */
+    public static FieldSelection parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        Set<String> fields = Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        fields.add("id");
+        return new FieldSelection(Collections.unmodifiableSet(fields));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Campos selecionados; vazio quando todos os campos foram solicitados.
+     */
+    public Set<String> getFields() {
+        return fields == null ? Set.of() : fields;
+    }
+}
@@ -0,0 +1,93 @@
+package com.artistalbum.dto;
+
+import com.artistalbum.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO para importação em massa do catálogo (NDJSON ou CSV).
+ */
+public class ImportDTO {
+
+    /**
+     * Formato do arquivo importado, definido pelo Content-Type da requisição.
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && contentType.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (contentType != null && contentType.startsWith("application/x-ndjson")) {
+                return NDJSON;
+            }
+            throw new BusinessException("Formato de importação não suportado: " + contentType);
+        }
+    }
+
+    /**
+     * Um registro do arquivo. O campo type define quais campos são usados:
+     * <ul>
+     *   <li>artist: name, country, formationYear, genre, biography, imageUrl</li>
+     *   <li>album: title, releaseYear, genre, recordLabel, totalTracks, description, artists (nomes)</li>
+     *   <li>link: artist (nome), album (título) e, se o título não for único, albumArtists (nomes dos artistas do álbum)</li>
+     * </ul>
+     * No CSV, as colunas usam os mesmos nomes e as colunas artists e albumArtists separam nomes com "|".
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Record {
+        private String type;
+        private String name;
+        private String country;
+        private Integer formationYear;
+        private String genre;
+        private String biography;
+        private String imageUrl;
+        private String title;
+        private Integer releaseYear;
+        private String recordLabel;
+        private Integer totalTracks;
+        private String description;
+        private List<String> artists;
+        private String artist;
+        private String album;
+        private List<String> albumArtists;
+
+        /** Linha do arquivo de origem, para relatório de erros. */
+        @JsonIgnore
+        private long line;
+    }
+
+    /**
+     * Evento transmitido durante a importação (uma linha NDJSON por evento).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Progress {
+        /** progress, error ou done. */
+        private String event;
+        private Long line;
+        private String message;
+        private Long linesRead;
+        private Long artistsCreated;
+        private Long artistsSkipped;
+        private Long albumsCreated;
+        private Long albumsSkipped;
+        private Long linksCreated;
+        private Long errors;
+        private Long elapsedMs;
+        private Long rowsPerSecond;
+    }
+}
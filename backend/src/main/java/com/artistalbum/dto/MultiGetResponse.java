@@ -0,0 +1,39 @@
+package com.artistalbum.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * DTO para buscas por lista de IDs: itens na ordem solicitada e IDs não encontrados.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MultiGetResponse<T> {
+
+    private List<T> content;
+    private List<Long> notFound;
+
+    /**
+     * Monta a resposta seguindo a ordem de {@code ids}; IDs repetidos aparecem uma única vez.
+     */
+    public static <E, T> MultiGetResponse<T> of(List<Long> ids, Map<Long, E> found, Function<E, T> mapper) {
+        List<T> content = new ArrayList<>(found.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            E entity = found.get(id);
+            if (entity == null) {
+                notFound.add(id);
+            } else {
+                content.add(mapper.apply(entity));
+            }
+        }
+        return new MultiGetResponse<>(content, notFound);
+    }
+}
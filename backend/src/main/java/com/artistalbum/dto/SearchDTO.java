@@ -0,0 +1,43 @@
+package com.artistalbum.dto;
+
+import com.artistalbum.repository.projection.SearchHitRow;
+import lombok.*;
+
+/**
+ * DTO para resultados da busca textual.
+ */
+public class SearchDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Hit {
+        /** "album" ou "artist". */
+        private String type;
+        private Long id;
+        /** Título do álbum ou nome do artista. */
+        private String label;
+        private Float rank;
+
+        public static Hit fromRow(SearchHitRow row) {
+            return Hit.builder()
+                    .type(row.getType())
+                    .id(row.getId())
+                    .label(row.getLabel())
+                    .rank(row.getRank())
+                    .build();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Suggestion {
+        /** "album" ou "artist". */
+        private String type;
+        private Long id;
+        private String label;
+    }
+}
@@ -0,0 +1,57 @@
+package com.artistalbum.dto;
+
+import com.artistalbum.exception.BusinessException;
+import lombok.*;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * DTO para páginas por offset cujo total de registros é opcional.
+ * Com {@code exact = false}, {@code totalElements} é uma estimativa (estatísticas do banco ou contagem em cache).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlicePage<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private Long totalElements;
+    private Boolean exact;
+
+    /**
+     * Como o total de registros deve ser obtido.
+     */
+    public enum CountMode {
+        /** COUNT exato, como nas páginas tradicionais. */
+        EXACT,
+        /** Total aproximado, sem COUNT por requisição. */
+        ESTIMATE,
+        /** Sem total: apenas indica se há próxima página. */
+        NONE;
+
+        public static CountMode from(String value) {
+            try {
+                return CountMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("Modo de contagem inválido: " + value + " (use exact, estimate ou none)");
+            }
+        }
+    }
+
+    public static <T> SlicePage<T> of(Slice<T> slice, Long totalElements, Boolean exact) {
+        return SlicePage.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .totalElements(totalElements)
+                .exact(exact)
+                .build();
+    }
+}
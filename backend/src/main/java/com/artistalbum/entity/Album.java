@@ -2,6 +2,8 @@ package com.artistalbum.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -13,6 +15,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "albums")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "albums")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,7 +25,8 @@ import java.util.Set;
 public class Album {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "albums_id_seq")
+    @SequenceGenerator(name = "albums_id_seq", sequenceName = "albums_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -43,13 +48,19 @@ public class Album {
     private String description;
 
     @ManyToMany(mappedBy = "albums", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "albums_artists")
     @Builder.Default
     private Set<Artist> artists = new HashSet<>();
 
     @OneToMany(mappedBy = "album", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "albums_covers")
     @Builder.Default
     private List<AlbumCover> covers = new ArrayList<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -67,6 +78,14 @@ public class Album {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Marca o álbum como alterado quando seus vínculos com artistas são gravados direto em artist_album,
+     * sem passar pela coleção: a versão (ETag) e a data de alteração avançam no próximo flush.
+     */
+    public void markLinksChanged() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void addCover(AlbumCover cover) {
         covers.add(cover);
         cover.setAlbum(this);
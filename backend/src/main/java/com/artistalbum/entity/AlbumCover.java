@@ -2,6 +2,8 @@ package com.artistalbum.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -9,6 +11,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "album_covers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "album_covers")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +21,8 @@ import java.time.LocalDateTime;
 public class AlbumCover {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "album_covers_id_seq")
+    @SequenceGenerator(name = "album_covers_id_seq", sequenceName = "album_covers_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -40,6 +45,10 @@ public class AlbumCover {
     @Builder.Default
     private Boolean isPrimary = false;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
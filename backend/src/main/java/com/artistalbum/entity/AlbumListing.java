@@ -0,0 +1,76 @@
+package com.artistalbum.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de leitura desnormalizado para listagens de álbuns (tabela album_listing).
+ * Reúne dados do álbum, nomes dos artistas e capa principal em uma única linha.
+ * Somente leitura: mantido por {@link com.artistalbum.repository.AlbumListingRepository}
+ * a cada escrita em álbuns, artistas, vínculos e capas.
+ */
+@Entity
+@Immutable
+@Table(name = "album_listing")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlbumListing {
+
+    @Id
+    @Column(name = "album_id")
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "release_year")
+    private Integer releaseYear;
+
+    @Column(length = 50)
+    private String genre;
+
+    @Column(name = "record_label", length = 100)
+    private String recordLabel;
+
+    @Column(name = "total_tracks")
+    private Integer totalTracks;
+
+    /**
+     * IDs dos artistas, alinhados por posição com {@link #artistNames}.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "artist_ids", nullable = false)
+    private Long[] artistIds;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "artist_names", nullable = false)
+    private String[] artistNames;
+
+    /**
+     * Nomes dos artistas concatenados, usados na busca por nome de artista.
+     */
+    @Column(name = "artist_names_text", nullable = false, columnDefinition = "TEXT")
+    private String artistNamesText;
+
+    @Column(name = "cover_count", nullable = false)
+    private Integer coverCount;
+
+    @Column(name = "primary_cover_id")
+    private Long primaryCoverId;
+
+    @Column(name = "primary_cover_key", length = 500)
+    private String primaryCoverKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
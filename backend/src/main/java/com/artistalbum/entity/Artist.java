@@ -2,6 +2,8 @@ package com.artistalbum.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -11,6 +13,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "artists")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "artists")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,8 @@ import java.util.Set;
 public class Artist {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "artists_id_seq")
+    @SequenceGenerator(name = "artists_id_seq", sequenceName = "artists_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -46,9 +51,14 @@ public class Artist {
         joinColumns = @JoinColumn(name = "artist_id"),
         inverseJoinColumns = @JoinColumn(name = "album_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "artists_albums")
     @Builder.Default
     private Set<Album> albums = new HashSet<>();
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -66,6 +76,14 @@ public class Artist {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Marca o artista como alterado quando seus vínculos com álbuns são gravados direto em artist_album,
+     * sem passar pela coleção: a versão (ETag) e a data de alteração avançam no próximo flush.
+     */
+    public void markLinksChanged() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void addAlbum(Album album) {
         this.albums.add(album);
         album.getArtists().add(this);
@@ -2,6 +2,8 @@ package com.artistalbum.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -10,6 +12,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "regionais")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "regionais")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +22,8 @@ import java.time.LocalDateTime;
 public class Regional {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "regionais_id_seq")
+    @SequenceGenerator(name = "regionais_id_seq", sequenceName = "regionais_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "external_id", nullable = false)
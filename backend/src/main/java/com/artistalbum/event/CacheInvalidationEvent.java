@@ -0,0 +1,41 @@
+package com.artistalbum.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Alteração confirmada em outra instância da API, recebida pelo {@code CacheInvalidationBus}, ou sua
+ * segunda publicação após o atraso das réplicas (também para alterações desta instância).
+ * Os ouvintes removem dos caches locais as entradas afetadas; {@link #isFullFlush()} indica
+ * que notificações podem ter sido perdidas e todos os caches locais devem ser esvaziados.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CacheInvalidationEvent {
+
+    public enum Region { ALBUM, ARTIST, REGIONAL }
+
+    private final Region region;
+    /** IDs alterados; vazio quando toda a região deve ser invalidada. */
+    private final Set<Long> ids;
+    private final boolean fullFlush;
+
+    public static CacheInvalidationEvent of(Region region, Set<Long> ids) {
+        return new CacheInvalidationEvent(region, ids, false);
+    }
+
+    public static CacheInvalidationEvent flushAll() {
+        return new CacheInvalidationEvent(null, Set.of(), true);
+    }
+
+    /**
+     * Indica se a invalidação atinge a região informada (sempre, em um esvaziamento completo).
+     */
+    public boolean affects(Region region) {
+        return fullFlush || this.region == region;
+    }
+}
@@ -0,0 +1,41 @@
+package com.artistalbum.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Evento publicado pelos serviços quando um álbum ou artista é criado, alterado ou removido.
+ * Os ouvintes reagem após o commit da transação (@TransactionalEventListener).
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CatalogChangedEvent {
+
+    public enum EntityType { ALBUM, ARTIST }
+
+    public enum Action { SAVED, DELETED }
+
+    private final EntityType entityType;
+    private final Long id;
+    /** Título do álbum ou nome do artista; nulo em remoções. */
+    private final String label;
+    private final Action action;
+
+    public static CatalogChangedEvent albumSaved(Long id, String title) {
+        return new CatalogChangedEvent(EntityType.ALBUM, id, title, Action.SAVED);
+    }
+
+    public static CatalogChangedEvent albumDeleted(Long id) {
+        return new CatalogChangedEvent(EntityType.ALBUM, id, null, Action.DELETED);
+    }
+
+    public static CatalogChangedEvent artistSaved(Long id, String name) {
+        return new CatalogChangedEvent(EntityType.ARTIST, id, name, Action.SAVED);
+    }
+
+    public static CatalogChangedEvent artistDeleted(Long id) {
+        return new CatalogChangedEvent(EntityType.ARTIST, id, null, Action.DELETED);
+    }
+}
@@ -0,0 +1,20 @@
+package com.artistalbum.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando a versão informada em If-Match não corresponde à versão atual do recurso.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String resourceName, Object id, Long currentVersion) {
+        super(String.format("%s com id '%s' foi alterado por outra requisição (versão atual: %d)",
+                resourceName, id, currentVersion));
+    }
+}
@@ -1,14 +1,15 @@
 package com.artistalbum.repository;
 
 import com.artistalbum.entity.AlbumCover;
-import jakarta.persistence.LockModeType;
+import com.artistalbum.repository.projection.IdLabelRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,17 +25,25 @@ public interface AlbumCoverRepository extends JpaRepository<AlbumCover, Long> {
     List<AlbumCover> findByAlbumId(Long albumId);
 
     /**
-     * Busca todas as capas de um álbum com lock pessimista (para evitar race conditions).
+     * Capas do álbum com ID maior que o cursor, em ordem de ID (índice idx_album_covers_album_id_id).
+     * Use {@code afterId = 0} para a primeira página.
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT c FROM AlbumCover c WHERE c.album.id = :albumId")
-    List<AlbumCover> findByAlbumIdWithLock(@Param("albumId") Long albumId);
+    @Query("SELECT ac FROM AlbumCover ac WHERE ac.album.id = :albumId AND ac.id > :afterId ORDER BY ac.id ASC")
+    List<AlbumCover> findPageByAlbumId(@Param("albumId") Long albumId, @Param("afterId") Long afterId, Pageable limit);
 
     /**
      * Busca a capa principal de um álbum.
      */
     Optional<AlbumCover> findByAlbumIdAndIsPrimaryTrue(Long albumId);
 
+    /**
+     * Chave da capa principal de cada álbum informado, em uma única consulta (rótulo = object_key).
+     * Ordenado por ID da capa, como em album_listing, caso um álbum tenha mais de uma marcada.
+     */
+    @Query("SELECT ac.album.id AS id, ac.objectKey AS label FROM AlbumCover ac "
+            + "WHERE ac.album.id IN :albumIds AND ac.isPrimary = true ORDER BY ac.id")
+    List<IdLabelRow> findPrimaryKeysByAlbumIdIn(@Param("albumIds") Collection<Long> albumIds);
+
     /**
      * Remove a marcação de capa principal de todas as capas de um álbum.
      */
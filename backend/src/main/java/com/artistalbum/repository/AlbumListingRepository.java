@@ -0,0 +1,141 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.AlbumListing;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repositório do modelo de leitura album_listing.
+ * Consultas leem apenas a tabela desnormalizada; as operações de refresh
+ * recalculam as linhas a partir das tabelas normalizadas.
+ */
+@Repository
+public interface AlbumListingRepository extends JpaRepository<AlbumListing, Long>,
+        JpaSpecificationExecutor<AlbumListing>, AlbumListingRepositoryCustom {
+
+    /** Linhas trazidas por ida ao banco nos cursores de exportação ({@link #streamAll}). */
+    int EXPORT_FETCH_SIZE = 1000;
+
+    /**
+     * Recalcula (upsert) as linhas de album_listing a partir de albums, artist_album e album_covers.
+     */
+    String REFRESH_SQL = "INSERT INTO album_listing (album_id, title, release_year, genre, record_label, total_tracks, "
+            + "artist_ids, artist_names, artist_names_text, cover_count, primary_cover_id, primary_cover_key, "
+            + "created_at, updated_at) "
+            + "SELECT a.id, a.title, a.release_year, a.genre, a.record_label, a.total_tracks, "
+            + "COALESCE(ar.ids, CAST(ARRAY[] AS BIGINT[])), COALESCE(ar.names, CAST(ARRAY[] AS TEXT[])), "
+            + "COALESCE(ar.names_text, ''), c.cover_count, c.primary_cover_id, c.primary_cover_key, "
+            + "a.created_at, a.updated_at "
+            + "FROM albums a "
+            + "LEFT JOIN LATERAL ("
+            + " SELECT array_agg(CAST(r.id AS BIGINT) ORDER BY r.name, r.id) AS ids,"
+            + " array_agg(CAST(r.name AS TEXT) ORDER BY r.name, r.id) AS names,"
+            + " string_agg(r.name, ' / ' ORDER BY r.name, r.id) AS names_text"
+            + " FROM artist_album aa JOIN artists r ON r.id = aa.artist_id WHERE aa.album_id = a.id"
+            + ") ar ON TRUE "
+            + "LEFT JOIN LATERAL ("
+            + " SELECT COUNT(*) AS cover_count,"
+            + " (array_agg(CAST(ac.id AS BIGINT) ORDER BY ac.id) FILTER (WHERE ac.is_primary))[1] AS primary_cover_id,"
+            + " (array_agg(ac.object_key ORDER BY ac.id) FILTER (WHERE ac.is_primary))[1] AS primary_cover_key"
+            + " FROM album_covers ac WHERE ac.album_id = a.id"
+            + ") c ON TRUE ";
+
+    String REFRESH_ON_CONFLICT = " ON CONFLICT (album_id) DO UPDATE SET "
+            + "title = EXCLUDED.title, release_year = EXCLUDED.release_year, genre = EXCLUDED.genre, "
+            + "record_label = EXCLUDED.record_label, total_tracks = EXCLUDED.total_tracks, "
+            + "artist_ids = EXCLUDED.artist_ids, artist_names = EXCLUDED.artist_names, "
+            + "artist_names_text = EXCLUDED.artist_names_text, cover_count = EXCLUDED.cover_count, "
+            + "primary_cover_id = EXCLUDED.primary_cover_id, primary_cover_key = EXCLUDED.primary_cover_key, "
+            + "created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at";
+
+    /**
+     * Quantidade estimada de linhas segundo as estatísticas do PostgreSQL (pg_class.reltuples).
+     * Retorna valor negativo se a tabela ainda não foi analisada.
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('album_listing' AS regclass)",
+            nativeQuery = true)
+    long estimateRowCount();
+
+    /**
+     * Busca álbuns por título (case-insensitive, parcial), servida pelo índice trigram em lower(title).
+     */
+    @Query("SELECT l FROM AlbumListing l "
+            + "WHERE LOWER(l.title) LIKE LOWER(CONCAT('%', :#{escape(#title)}, '%')) ESCAPE '\\'")
+    Page<AlbumListing> findByTitleContaining(@Param("title") String title, Pageable pageable);
+
+    /**
+     * Busca álbuns por nome do artista (case-insensitive, parcial),
+     * servida pelo índice trigram em lower(artist_names_text).
+     */
+    @Query("SELECT l FROM AlbumListing l "
+            + "WHERE LOWER(l.artistNamesText) LIKE LOWER(CONCAT('%', :#{escape(#artistName)}, '%')) ESCAPE '\\'")
+    Page<AlbumListing> findByArtistNameContaining(@Param("artistName") String artistName, Pageable pageable);
+
+    /**
+     * Busca álbuns de um artista específico (índice GIN em artist_ids).
+     */
+    @Query("SELECT l FROM AlbumListing l WHERE array_contains(l.artistIds, :artistId)")
+    Page<AlbumListing> findByArtistId(@Param("artistId") Long artistId, Pageable pageable);
+
+    /**
+     * IDs dos álbuns vinculados a um artista, segundo a listagem.
+     */
+    @Query("SELECT l.id FROM AlbumListing l WHERE array_contains(l.artistIds, :artistId)")
+    List<Long> findIdsByArtistId(@Param("artistId") Long artistId);
+
+    /**
+     * Primeira página da listagem por cursor, ordenada por (título, id).
+     */
+    @Query("SELECT l FROM AlbumListing l ORDER BY l.title ASC, l.id ASC")
+    List<AlbumListing> findFirstKeysetPage(Pageable limit);
+
+    /**
+     * Página seguinte ao cursor (título, id), usando o índice idx_album_listing_title_id.
+     */
+    @Query("SELECT l FROM AlbumListing l WHERE (l.title, l.id) > (:title, :id) ORDER BY l.title ASC, l.id ASC")
+    List<AlbumListing> findKeysetPageAfter(@Param("title") String title, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Percorre toda a listagem em ordem de ID com cursor do servidor (fetch size), para exportação.
+     * Deve ser consumido dentro de uma transação.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM AlbumListing l ORDER BY l.id")
+    Stream<AlbumListing> streamAll();
+
+    /**
+     * Recalcula as linhas dos álbuns informados.
+     * Alterações pendentes no contexto de persistência são enviadas antes (flush).
+     * O refresh só grava album_listing; declarar a tabela evita que o Hibernate
+     * invalide todas as regiões do cache de segundo nível a cada execução.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "album_listing"))
+    @Query(value = REFRESH_SQL + "WHERE a.id IN (:albumIds)" + REFRESH_ON_CONFLICT, nativeQuery = true)
+    int refreshByAlbumIds(@Param("albumIds") Collection<Long> albumIds);
+
+    /**
+     * Recalcula as linhas dos álbuns informados, ignorando coleções vazias.
+     */
+    default void refresh(Collection<Long> albumIds) {
+        if (!albumIds.isEmpty()) {
+            refreshByAlbumIds(albumIds);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.AlbumListing;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Consultas de album_listing não cobertas pelo JpaSpecificationExecutor.
+ */
+public interface AlbumListingRepositoryCustom {
+
+    /**
+     * Busca uma página por Specification sem executar COUNT:
+     * lê {@code size + 1} linhas apenas para saber se há próxima página.
+     */
+    Slice<AlbumListing> findSlice(Specification<AlbumListing> spec, Pageable pageable);
+}
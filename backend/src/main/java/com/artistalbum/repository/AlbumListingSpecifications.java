@@ -0,0 +1,91 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.entity.AlbumListing;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications para a busca combinada sobre album_listing.
+ * Cada filtro usa a mesma expressão dos índices da tabela (lower(...), release_year, GIN em artist_ids),
+ * permitindo que o planner combine os índices em uma única consulta.
+ */
+public final class AlbumListingSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private AlbumListingSpecifications() {
+    }
+
+    /**
+     * Combina com AND todos os filtros informados. Sem filtros, retorna todos os álbuns.
+     */
+    public static Specification<AlbumListing> matching(AlbumDTO.Filter filter) {
+        return Specification.allOf(
+                titleContains(filter.getTitle()),
+                artistNameContains(filter.getArtistName()),
+                hasArtist(filter.getArtistId()),
+                genreEquals(filter.getGenre()),
+                releasedFrom(filter.getReleaseYearFrom()),
+                releasedUntil(filter.getReleaseYearTo()),
+                recordLabelEquals(filter.getRecordLabel()));
+    }
+
+    /**
+     * Linhas posteriores à posição (título, id) na ordem da listagem por cursor.
+     */
+    public static Specification<AlbumListing> titleAfter(String title, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("title"), title),
+                cb.and(cb.equal(root.get("title"), title), cb.greaterThan(root.get("id"), id)));
+    }
+
+    public static Specification<AlbumListing> titleContains(String title) {
+        return isBlank(title) ? null : (root, query, cb) ->
+                cb.like(cb.lower(root.get("title")), containsPattern(title), ESCAPE);
+    }
+
+    public static Specification<AlbumListing> artistNameContains(String artistName) {
+        return isBlank(artistName) ? null : (root, query, cb) ->
+                cb.like(cb.lower(root.get("artistNamesText")), containsPattern(artistName), ESCAPE);
+    }
+
+    public static Specification<AlbumListing> hasArtist(Long artistId) {
+        return artistId == null ? null : (root, query, cb) ->
+                cb.isTrue(cb.function("array_contains", Boolean.class, root.get("artistIds"), cb.literal(artistId)));
+    }
+
+    public static Specification<AlbumListing> genreEquals(String genre) {
+        return isBlank(genre) ? null : (root, query, cb) ->
+                cb.equal(cb.lower(root.get("genre")), genre.toLowerCase());
+    }
+
+    public static Specification<AlbumListing> releasedFrom(Integer year) {
+        return year == null ? null : (root, query, cb) ->
+                cb.greaterThanOrEqualTo(root.get("releaseYear"), year);
+    }
+
+    public static Specification<AlbumListing> releasedUntil(Integer year) {
+        return year == null ? null : (root, query, cb) ->
+                cb.lessThanOrEqualTo(root.get("releaseYear"), year);
+    }
+
+    public static Specification<AlbumListing> recordLabelEquals(String recordLabel) {
+        return isBlank(recordLabel) ? null : (root, query, cb) ->
+                cb.equal(cb.lower(root.get("recordLabel")), recordLabel.toLowerCase());
+    }
+
+    /**
+     * Padrão LIKE "contém" em minúsculas; barra invertida, % e _ digitados pelo usuário valem como texto literal.
+     */
+    static String containsPattern(String value) {
+        String escaped = value.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
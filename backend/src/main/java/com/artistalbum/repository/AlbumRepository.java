@@ -1,13 +1,15 @@
 package com.artistalbum.repository;
 
 import com.artistalbum.entity.Album;
-import org.springframework.data.domain.Page;
+import com.artistalbum.repository.projection.IdLabelRow;
+import com.artistalbum.repository.projection.VersionRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,27 +20,55 @@ import java.util.Optional;
 public interface AlbumRepository extends JpaRepository<Album, Long> {
 
     /**
-     * Busca álbuns por título (case-insensitive, parcial).
+     * Busca álbum por ID com artistas e capas carregados.
      */
-    Page<Album> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    @Query("SELECT DISTINCT a FROM Album a LEFT JOIN FETCH a.artists LEFT JOIN FETCH a.covers WHERE a.id = :id")
+    Optional<Album> findByIdWithArtistsAndCovers(@Param("id") Long id);
 
     /**
-     * Busca álbuns de um artista específico.
+     * Versão do álbum e a data de alteração mais recente entre o álbum e seus artistas,
+     * sem carregar entidades (validação de GET condicional). O detalhe do álbum inclui
+     * resumos dos artistas (nome, gênero, contagem de álbuns), então alterações nos artistas
+     * também invalidam a representação.
      */
-    @Query("SELECT al FROM Album al JOIN al.artists ar WHERE ar.id = :artistId")
-    Page<Album> findByArtistId(@Param("artistId") Long artistId, Pageable pageable);
+    @Query("SELECT a.version AS version, "
+            + "GREATEST(COALESCE(a.updatedAt, a.createdAt), "
+            + "COALESCE((SELECT MAX(ar.updatedAt) FROM Artist ar JOIN ar.albums al WHERE al.id = a.id), a.createdAt)) "
+            + "AS updatedAt FROM Album a WHERE a.id = :id")
+    Optional<VersionRow> findVersionById(@Param("id") Long id);
 
     /**
-     * Busca álbum por ID com artistas e capas carregados.
+     * Busca álbuns por lista de IDs com artistas carregados.
      */
-    @Query("SELECT DISTINCT a FROM Album a LEFT JOIN FETCH a.artists LEFT JOIN FETCH a.covers WHERE a.id = :id")
-    Optional<Album> findByIdWithArtistsAndCovers(@Param("id") Long id);
+    @Query("SELECT DISTINCT a FROM Album a LEFT JOIN FETCH a.artists WHERE a.id IN :ids")
+    List<Album> findAllWithArtistsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca álbuns por lista de IDs com capas carregadas.
+     * Executada após {@link #findAllWithArtistsByIdIn}, inicializa as capas das mesmas instâncias
+     * sem produto cartesiano entre as duas coleções.
+     */
+    @Query("SELECT DISTINCT a FROM Album a LEFT JOIN FETCH a.covers WHERE a.id IN :ids")
+    List<Album> findAllWithCoversByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * Busca álbuns por nome do artista.
+     * IDs dos álbuns vinculados a qualquer um dos artistas informados.
      */
-    @Query("SELECT DISTINCT al FROM Album al JOIN al.artists ar WHERE LOWER(ar.name) LIKE LOWER(CONCAT('%', :artistName, '%'))")
-    Page<Album> findByArtistNameContaining(@Param("artistName") String artistName, Pageable pageable);
+    @Query("SELECT DISTINCT al.id FROM Album al JOIN al.artists ar WHERE ar.id IN :artistIds")
+    List<Long> findIdsByArtistIdIn(@Param("artistIds") Collection<Long> artistIds);
+
+    /**
+     * Álbuns do artista com ID maior que o cursor, em ordem de ID (percorre a chave primária de artist_album).
+     * Use {@code afterId = 0} para a primeira página.
+     */
+    @Query("SELECT al FROM Album al JOIN al.artists ar WHERE ar.id = :artistId AND al.id > :afterId ORDER BY al.id ASC")
+    List<Album> findPageByArtistId(@Param("artistId") Long artistId, @Param("afterId") Long afterId, Pageable limit);
+
+    /**
+     * Quais dos IDs informados existem, sem carregar entidades.
+     */
+    @Query("SELECT a.id FROM Album a WHERE a.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
     /**
      * Busca todos os álbuns com artistas carregados.
@@ -47,11 +77,16 @@ public interface AlbumRepository extends JpaRepository<Album, Long> {
     List<Album> findAllWithArtistsAndCovers();
 
     /**
-     * Busca todos os álbuns com artistas e capas carregados (paginado).
+     * IDs e títulos de todos os álbuns, para carga do índice de sugestões.
+     */
+    @Query("SELECT a.id AS id, a.title AS label FROM Album a")
+    List<IdLabelRow> findAllLabels();
+
+    /**
+     * IDs e títulos dos álbuns informados, para atualização pontual do índice de sugestões.
      */
-    @Query(value = "SELECT DISTINCT a FROM Album a LEFT JOIN FETCH a.artists LEFT JOIN FETCH a.covers",
-           countQuery = "SELECT COUNT(DISTINCT a) FROM Album a")
-    Page<Album> findAllWithArtistsAndCoversPageable(Pageable pageable);
+    @Query("SELECT a.id AS id, a.title AS label FROM Album a WHERE a.id IN :ids")
+    List<IdLabelRow> findLabelsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Verifica se existe álbum com o título especificado.
@@ -1,14 +1,24 @@
 package com.artistalbum.repository;
 
 import com.artistalbum.entity.Artist;
+import com.artistalbum.repository.projection.IdCountRow;
+import com.artistalbum.repository.projection.IdLabelRow;
+import com.artistalbum.repository.projection.VersionRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório para operações de persistência de artistas.
@@ -18,23 +28,131 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
 
     /**
      * Busca artistas por nome (case-insensitive, parcial).
+     * Usa LOWER(...) explicitamente para casar com o índice trigram idx_artists_name_trgm.
      */
-    Page<Artist> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    @Query("SELECT a FROM Artist a "
+            + "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE '\\'")
+    Page<Artist> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
 
     /**
-     * Busca artista por ID com álbuns carregados.
+     * Lista artistas sem executar COUNT (lê uma linha extra para saber se há próxima página).
      */
-    @Query("SELECT a FROM Artist a LEFT JOIN FETCH a.albums WHERE a.id = :id")
-    Optional<Artist> findByIdWithAlbums(@Param("id") Long id);
+    @Query("SELECT a FROM Artist a")
+    Slice<Artist> findAllAsSlice(Pageable pageable);
 
     /**
-     * Verifica se existe artista com o nome especificado.
+     * Busca artistas por nome sem executar COUNT.
      */
-    boolean existsByNameIgnoreCase(String name);
+    @Query("SELECT a FROM Artist a "
+            + "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE '\\'")
+    Slice<Artist> findSliceByNameContaining(@Param("name") String name, Pageable pageable);
+
+    /**
+     * Conta artistas por nome (case-insensitive, parcial).
+     */
+    @Query("SELECT COUNT(a) FROM Artist a "
+            + "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :#{escape(#name)}, '%')) ESCAPE '\\'")
+    long countByNameContaining(@Param("name") String name);
+
+    /**
+     * Quantidade estimada de artistas segundo as estatísticas do PostgreSQL (pg_class.reltuples).
+     * Retorna valor negativo se a tabela ainda não foi analisada.
+     */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('artists' AS regclass)",
+            nativeQuery = true)
+    long estimateRowCount();
+
+    /**
+     * Versão do artista e a data de alteração mais recente entre o artista e seus álbuns,
+     * sem carregar entidades (validação de GET condicional). O detalhe do artista inclui
+     * resumos dos álbuns, então alterações nos álbuns também invalidam a representação.
+     */
+    @Query("SELECT a.version AS version, "
+            + "GREATEST(COALESCE(a.updatedAt, a.createdAt), "
+            + "COALESCE((SELECT MAX(al.updatedAt) FROM Album al JOIN al.artists ar WHERE ar.id = a.id), a.createdAt)) "
+            + "AS updatedAt FROM Artist a WHERE a.id = :id")
+    Optional<VersionRow> findVersionById(@Param("id") Long id);
+
+    /**
+     * Busca artistas por lista de IDs com álbuns carregados.
+     */
+    @Query("SELECT DISTINCT a FROM Artist a LEFT JOIN FETCH a.albums WHERE a.id IN :ids")
+    List<Artist> findAllWithAlbumsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * IDs dos artistas vinculados ao álbum, sem carregar entidades (índice idx_artist_album_album_id).
+     */
+    @Query("SELECT ar.id FROM Artist ar JOIN ar.albums al WHERE al.id = :albumId")
+    List<Long> findIdsByAlbumId(@Param("albumId") Long albumId);
+
+    /**
+     * Artistas do álbum com ID maior que o cursor, em ordem de ID (índice idx_artist_album_album_id).
+     * Use {@code afterId = 0} para a primeira página.
+     */
+    @Query("SELECT ar FROM Artist ar JOIN ar.albums al WHERE al.id = :albumId AND ar.id > :afterId ORDER BY ar.id ASC")
+    List<Artist> findPageByAlbumId(@Param("albumId") Long albumId, @Param("afterId") Long afterId, Pageable limit);
+
+    /**
+     * Quantidade de álbuns de cada artista informado, em uma única consulta agregada sobre artist_album.
+     * Artistas sem álbuns não aparecem no resultado.
+     */
+    @Query("SELECT ar.id AS id, COUNT(al) AS count FROM Artist ar JOIN ar.albums al WHERE ar.id IN :ids GROUP BY ar.id")
+    List<IdCountRow> countAlbumsByArtistIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * Busca todos os artistas com contagem de álbuns.
+     * Primeira página da listagem por cursor, ordenada por (nome, id).
      */
-    @Query("SELECT a FROM Artist a LEFT JOIN FETCH a.albums")
-    Page<Artist> findAllWithAlbums(Pageable pageable);
+    @Query("SELECT a FROM Artist a ORDER BY a.name ASC, a.id ASC")
+    List<Artist> findFirstKeysetPage(Pageable limit);
+
+    /**
+     * Página seguinte ao cursor (nome, id), usando o índice composto idx_artists_name_id.
+     */
+    @Query("SELECT a FROM Artist a WHERE (a.name, a.id) > (:name, :id) ORDER BY a.name ASC, a.id ASC")
+    List<Artist> findKeysetPageAfter(@Param("name") String name, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Primeira página da listagem por cursor filtrada por nome (case-insensitive, parcial).
+     */
+    @Query("SELECT a FROM Artist a "
+            + "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :#{escape(#filter)}, '%')) ESCAPE '\\' "
+            + "ORDER BY a.name ASC, a.id ASC")
+    List<Artist> findFirstKeysetPageByName(@Param("filter") String filter, Pageable limit);
+
+    /**
+     * Página seguinte ao cursor (nome, id) da listagem filtrada por nome.
+     */
+    @Query("SELECT a FROM Artist a "
+            + "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :#{escape(#filter)}, '%')) ESCAPE '\\' "
+            + "AND (a.name, a.id) > (:name, :id) ORDER BY a.name ASC, a.id ASC")
+    List<Artist> findKeysetPageByNameAfter(@Param("filter") String filter, @Param("name") String name,
+                                           @Param("id") Long id, Pageable limit);
+
+    /**
+     * IDs e nomes de todos os artistas, para carga do índice de sugestões.
+     */
+    @Query("SELECT a.id AS id, a.name AS label FROM Artist a")
+    List<IdLabelRow> findAllLabels();
+
+    /**
+     * IDs e nomes dos artistas informados, para atualização pontual do índice de sugestões.
+     */
+    @Query("SELECT a.id AS id, a.name AS label FROM Artist a WHERE a.id IN :ids")
+    List<IdLabelRow> findLabelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Percorre todos os artistas em ordem de ID com cursor do servidor (fetch size), para exportação.
+     * Deve ser consumido dentro de uma transação.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + AlbumListingRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Artist a ORDER BY a.id")
+    Stream<Artist> streamAll();
+
+    /**
+     * Verifica se existe artista com o nome especificado.
+     */
+    boolean existsByNameIgnoreCase(String name);
 }
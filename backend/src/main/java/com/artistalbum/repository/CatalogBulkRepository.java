@@ -0,0 +1,249 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.dto.ImportDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Operações JDBC em lote para a importação do catálogo e para os vínculos artista–álbum.
+ * Cada operação envia um único comando com arrays (unnest), independente da quantidade de linhas.
+ * Artistas são identificados pelo nome em minúsculas; álbuns, pelo título e pelo conjunto de
+ * artistas ({@link AlbumKey}), já que títulos como "Greatest Hits" se repetem entre artistas.
+ * <p>
+ * Os IDs são reservados explicitamente nas sequências em blocos de {@link #ID_BLOCK_SIZE},
+ * o mesmo esquema pooled-lo usado pelo Hibernate, em vez de um nextval por linha.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogBulkRepository {
+
+    /** Incremento das sequências de ID (V8) e allocationSize das entidades. */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String NEXT_ID_BLOCKS_SQL =
+            "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)";
+
+    private static final String FIND_ARTISTS_SQL =
+            "SELECT id, lower(name) FROM artists WHERE lower(name) = ANY(?) ORDER BY id";
+
+    private static final String FIND_ALBUMS_SQL =
+            "SELECT a.id, a.title, r.name FROM albums a "
+            + "LEFT JOIN artist_album aa ON aa.album_id = a.id "
+            + "LEFT JOIN artists r ON r.id = aa.artist_id "
+            + "WHERE lower(a.title) = ANY(?) ORDER BY a.id";
+
+    private static final String INSERT_ARTISTS_SQL =
+            "INSERT INTO artists (id, name, country, formation_year, genre, biography, image_url) "
+            + "SELECT * FROM unnest(?::int[], ?::varchar[], ?::varchar[], ?::int[], ?::varchar[], ?::text[], ?::varchar[])";
+
+    private static final String INSERT_ALBUMS_SQL =
+            "INSERT INTO albums (id, title, release_year, genre, record_label, total_tracks, description) "
+            + "SELECT * FROM unnest(?::int[], ?::varchar[], ?::int[], ?::varchar[], ?::varchar[], ?::int[], ?::text[])";
+
+    private static final String INSERT_LINKS_SQL =
+            "INSERT INTO artist_album (artist_id, album_id) "
+            + "SELECT * FROM unnest(?::int[], ?::int[]) ON CONFLICT DO NOTHING";
+
+    private static final String DELETE_LINKS_SQL =
+            "DELETE FROM artist_album aa USING unnest(?::int[], ?::int[]) AS l(artist_id, album_id) "
+            + "WHERE aa.artist_id = l.artist_id AND aa.album_id = l.album_id";
+
+    private static final String TOUCH_ALBUMS_SQL = "UPDATE albums SET updated_at = ? WHERE id = ANY(?)";
+
+    private static final String TOUCH_ARTISTS_SQL = "UPDATE artists SET updated_at = ? WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Identidade de um álbum na importação: título e nomes dos artistas, em minúsculas.
+     */
+    public record AlbumKey(String title, Set<String> artists) {
+
+        public static AlbumKey of(String title, Collection<String> artistNames) {
+            Set<String> artists = new TreeSet<>();
+            if (artistNames != null) {
+                artistNames.forEach(name -> artists.add(lower(name)));
+            }
+            return new AlbumKey(lower(title), Collections.unmodifiableSet(artists));
+        }
+    }
+
+    public Map<String, Long> findArtistIdsByNames(Collection<String> lowerNames) {
+        return queryIds(FIND_ARTISTS_SQL, con -> new Array[]{
+                con.createArrayOf("varchar", lowerNames.toArray())});
+    }
+
+    /**
+     * Todos os álbuns com os títulos informados, agrupados pelo título e pelo conjunto atual de artistas.
+     * Mais de um ID na mesma chave indica álbuns duplicados, em ordem de ID.
+     */
+    public Map<AlbumKey, List<Long>> findAlbumIdsByTitles(Collection<String> lowerTitles) {
+        Map<Long, String> titles = new LinkedHashMap<>();
+        Map<Long, List<String>> artists = new HashMap<>();
+        jdbcTemplate.query(con -> prepare(con, FIND_ALBUMS_SQL, c -> new Array[]{
+                        c.createArrayOf("varchar", lowerTitles.toArray())}),
+                rs -> {
+                    long id = rs.getLong(1);
+                    titles.putIfAbsent(id, rs.getString(2));
+                    List<String> names = artists.computeIfAbsent(id, k -> new ArrayList<>());
+                    if (rs.getString(3) != null) {
+                        names.add(rs.getString(3));
+                    }
+                });
+        Map<AlbumKey, List<Long>> ids = new HashMap<>();
+        titles.forEach((id, title) ->
+                ids.computeIfAbsent(AlbumKey.of(title, artists.get(id)), k -> new ArrayList<>()).add(id));
+        return ids;
+    }
+
+    public Map<String, Long> insertArtists(List<ImportDTO.Record> artists) {
+        Long[] ids = allocateIds("artists_id_seq", artists.size());
+        update(INSERT_ARTISTS_SQL, con -> new Array[]{
+                con.createArrayOf("int4", ids),
+                con.createArrayOf("varchar", column(artists, ImportDTO.Record::getName)),
+                con.createArrayOf("varchar", column(artists, ImportDTO.Record::getCountry)),
+                con.createArrayOf("int4", column(artists, ImportDTO.Record::getFormationYear)),
+                con.createArrayOf("varchar", column(artists, ImportDTO.Record::getGenre)),
+                con.createArrayOf("text", column(artists, ImportDTO.Record::getBiography)),
+                con.createArrayOf("varchar", column(artists, ImportDTO.Record::getImageUrl))});
+        return idsByKey(artists, artist -> lower(artist.getName()), ids);
+    }
+
+    public Map<AlbumKey, Long> insertAlbums(List<ImportDTO.Record> albums) {
+        Long[] ids = allocateIds("albums_id_seq", albums.size());
+        update(INSERT_ALBUMS_SQL, con -> new Array[]{
+                con.createArrayOf("int4", ids),
+                con.createArrayOf("varchar", column(albums, ImportDTO.Record::getTitle)),
+                con.createArrayOf("int4", column(albums, ImportDTO.Record::getReleaseYear)),
+                con.createArrayOf("varchar", column(albums, ImportDTO.Record::getGenre)),
+                con.createArrayOf("varchar", column(albums, ImportDTO.Record::getRecordLabel)),
+                con.createArrayOf("int4", column(albums, ImportDTO.Record::getTotalTracks)),
+                con.createArrayOf("text", column(albums, ImportDTO.Record::getDescription))});
+        return idsByKey(albums, album -> AlbumKey.of(album.getTitle(), album.getArtists()), ids);
+    }
+
+    /**
+     * Vincula artistas e álbuns (pares na mesma posição), ignorando vínculos já existentes.
+     *
+     * @return quantidade de vínculos criados
+     */
+    public int insertLinks(Long[] artistIds, Long[] albumIds) {
+        return update(INSERT_LINKS_SQL, con -> new Array[]{
+                con.createArrayOf("int4", artistIds),
+                con.createArrayOf("int4", albumIds)});
+    }
+
+    /**
+     * Remove os vínculos entre artistas e álbuns (pares na mesma posição), ignorando os inexistentes.
+     *
+     * @return quantidade de vínculos removidos
+     */
+    public int deleteLinks(Long[] artistIds, Long[] albumIds) {
+        return update(DELETE_LINKS_SQL, con -> new Array[]{
+                con.createArrayOf("int4", artistIds),
+                con.createArrayOf("int4", albumIds)});
+    }
+
+    /**
+     * Avança a data de alteração dos álbuns cujos vínculos mudaram por SQL direto, sem alterar a versão:
+     * a ETag e o Last-Modified do detalhe acompanham essa data.
+     */
+    public int touchAlbums(Collection<Long> albumIds) {
+        return touch(TOUCH_ALBUMS_SQL, albumIds);
+    }
+
+    /**
+     * Avança a data de alteração dos artistas cujos vínculos mudaram por SQL direto, sem alterar a versão.
+     */
+    public int touchArtists(Collection<Long> artistIds) {
+        return touch(TOUCH_ARTISTS_SQL, artistIds);
+    }
+
+    private int touch(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setObject(1, LocalDateTime.now());
+            ps.setArray(2, con.createArrayOf("int4", ids.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Reserva {@code count} IDs na sequência: um nextval por bloco de {@link #ID_BLOCK_SIZE},
+     * usando os valores [nextval, nextval + ID_BLOCK_SIZE - 1] de cada bloco.
+     */
+    Long[] allocateIds(String sequence, int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, sequence, blocks);
+        Long[] ids = new Long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / ID_BLOCK_SIZE) + i % ID_BLOCK_SIZE;
+        }
+        return ids;
+    }
+
+    private int update(String sql, ArrayBinder binder) {
+        return jdbcTemplate.update(con -> prepare(con, sql, binder));
+    }
+
+    private Map<String, Long> queryIds(String sql, ArrayBinder binder) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(con -> prepare(con, sql, binder),
+                rs -> {
+                    ids.putIfAbsent(lower(rs.getString(2)), rs.getLong(1));
+                });
+        return ids;
+    }
+
+    private static PreparedStatement prepare(Connection con, String sql, ArrayBinder binder) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql);
+        Array[] arrays = binder.bind(con);
+        for (int i = 0; i < arrays.length; i++) {
+            ps.setArray(i + 1, arrays[i]);
+        }
+        return ps;
+    }
+
+    private static <K> Map<K, Long> idsByKey(List<ImportDTO.Record> records,
+                                             Function<ImportDTO.Record, K> key, Long[] ids) {
+        Map<K, Long> byKey = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            byKey.put(key.apply(records.get(i)), ids[i]);
+        }
+        return byKey;
+    }
+
+    private static String lower(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Object[] column(List<ImportDTO.Record> records, Function<ImportDTO.Record, Object> getter) {
+        return records.stream().map(getter).toArray();
+    }
+
+    @FunctionalInterface
+    private interface ArrayBinder {
+        Array[] bind(Connection con) throws SQLException;
+    }
+}
@@ -1,9 +1,12 @@
 package com.artistalbum.repository;
 
 import com.artistalbum.entity.Regional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +19,11 @@ import java.util.Optional;
 @Repository
 public interface RegionalRepository extends JpaRepository<Regional, Long> {
 
+    /**
+     * Região do cache de consultas com a lista de regionais ativas.
+     */
+    String ACTIVE_QUERY_REGION = "regionais_ativas";
+
     /**
      * Busca regional ativa por ID externo.
      */
@@ -23,7 +31,13 @@ public interface RegionalRepository extends JpaRepository<Regional, Long> {
 
     /**
      * Busca todas as regionais ativas.
+     * O resultado fica no cache de consultas do Hibernate e as entidades no cache de segundo nível,
+     * invalidados quando a tabela é alterada pelo Hibernate e ao fim de cada sincronização.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ACTIVE_QUERY_REGION)
+    })
     List<Regional> findByAtivoTrue();
 
     /**
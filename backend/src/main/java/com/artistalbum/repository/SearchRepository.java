@@ -0,0 +1,48 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.Album;
+import com.artistalbum.repository.projection.SearchHitRow;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Busca textual ranqueada (ts_rank) sobre as colunas search_vector de álbuns e artistas.
+ * Os resultados são ordenados por (relevância DESC, tipo, id) e paginados por keyset.
+ */
+@org.springframework.stereotype.Repository
+public interface SearchRepository extends org.springframework.data.repository.Repository<Album, Long> {
+
+    String HITS_SQL = "WITH q AS (SELECT websearch_to_tsquery('portuguese_unaccent', :query) AS tsq) "
+            + "SELECT * FROM ("
+            + " SELECT 'album' AS type, CAST(a.id AS BIGINT) AS id, a.title AS label,"
+            + " ts_rank(a.search_vector, q.tsq) AS rank"
+            + " FROM albums a, q WHERE a.search_vector @@ q.tsq"
+            + " UNION ALL"
+            + " SELECT 'artist' AS type, CAST(r.id AS BIGINT) AS id, r.name AS label,"
+            + " ts_rank(r.search_vector, q.tsq) AS rank"
+            + " FROM artists r, q WHERE r.search_vector @@ q.tsq"
+            + ") hits ";
+
+    String ORDER_AND_LIMIT = " ORDER BY hits.rank DESC, hits.type ASC, hits.id ASC LIMIT :limit";
+
+    /**
+     * Primeira página da busca.
+     */
+    @Query(value = HITS_SQL + ORDER_AND_LIMIT, nativeQuery = true)
+    List<SearchHitRow> searchFirstPage(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Página seguinte ao cursor (relevância, tipo, id).
+     */
+    @Query(value = HITS_SQL
+            + "WHERE hits.rank < CAST(:rank AS REAL)"
+            + " OR (hits.rank = CAST(:rank AS REAL) AND (hits.type, hits.id) > (:type, :id))"
+            + ORDER_AND_LIMIT, nativeQuery = true)
+    List<SearchHitRow> searchPageAfter(@Param("query") String query,
+                                       @Param("rank") float rank,
+                                       @Param("type") String type,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
+}
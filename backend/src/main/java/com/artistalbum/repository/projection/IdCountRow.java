@@ -0,0 +1,11 @@
+package com.artistalbum.repository.projection;
+
+/**
+ * Par (id, quantidade) de consultas agregadas por chave.
+ */
+public interface IdCountRow {
+
+    Long getId();
+
+    Long getCount();
+}
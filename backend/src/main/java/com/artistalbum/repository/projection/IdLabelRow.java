@@ -0,0 +1,11 @@
+package com.artistalbum.repository.projection;
+
+/**
+ * Par (id, rótulo) de consultas de projeção, como a carga do índice de sugestões.
+ */
+public interface IdLabelRow {
+
+    Long getId();
+
+    String getLabel();
+}
@@ -0,0 +1,15 @@
+package com.artistalbum.repository.projection;
+
+/**
+ * Linha do resultado da busca textual (álbum ou artista) com sua relevância.
+ */
+public interface SearchHitRow {
+
+    String getType();
+
+    Long getId();
+
+    String getLabel();
+
+    Float getRank();
+}
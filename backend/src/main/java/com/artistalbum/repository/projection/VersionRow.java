@@ -0,0 +1,14 @@
+package com.artistalbum.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão e data de alteração de um recurso, usadas como validadores de GET condicional
+ * (ETag / Last-Modified) sem carregar a entidade.
+ */
+public interface VersionRow {
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+}
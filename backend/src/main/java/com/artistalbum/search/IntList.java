@@ -0,0 +1,45 @@
+package com.artistalbum.search;
+
+import java.util.Arrays;
+
+/**
+ * Lista crescente de int primitivos, usada como posting list do índice de sugestões.
+ * Os valores são sempre adicionados em ordem crescente, permitindo busca binária.
+ */
+final class IntList {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+        if (size > 0 && values[size - 1] == value) {
+            return;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size + (size >> 1) + 1);
+        }
+        values[size++] = value;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Posição do primeiro valor maior ou igual a {@code value}, a partir de {@code from}.
+     */
+    int seek(int from, int value) {
+        int index = Arrays.binarySearch(values, from, size, value);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    void trimToSize() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, Math.max(size, 1));
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.artistalbum.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória por prefixo de palavra, para sugestões enquanto o usuário digita.
+ * <p>
+ * Cada entrada recebe um documento interno sequencial; cada prefixo (de {@value #MIN_PREFIX} a
+ * {@value #MAX_PREFIX} caracteres) de cada palavra aponta para uma {@link IntList} ordenada de documentos.
+ * Uma consulta intersecta as listas dos termos digitados. Atualizações marcam o documento antigo como
+ * removido e adicionam um novo; o índice é compactado quando os removidos passam a ser maioria.
+ * Texto normalizado em minúsculas e sem acentos.
+ * <p>
+ * Após a carga ({@link #optimize()}) e a cada compactação os documentos são renumerados na ordem do
+ * ranking (rótulos mais curtos primeiro), de modo que percorrer uma posting list em ordem crescente é
+ * percorrê-la do melhor para o pior candidato e a consulta pode parar assim que os {@code limit} melhores
+ * estiverem garantidos. Documentos incluídos depois disso ficam fora dessa ordem e são sempre avaliados.
+ */
+public class PrefixIndex {
+
+    static final int MIN_PREFIX = 2;
+    static final int MAX_PREFIX = 6;
+    private static final int COMPACT_THRESHOLD = 1024;
+    /**
+     * Marca das posting lists da primeira palavra (não ocorre em texto normalizado): seus prefixos e,
+     * terminada por espaço, a palavra inteira.
+     */
+    private static final String LEADING = "^";
+    /** Bits do documento na chave de ranking ({@link #rankKey}). */
+    private static final long DOC_MASK = Integer.MAX_VALUE;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<String, Integer> docsByKey = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private String[] types = new String[16];
+    private long[] ids = new long[16];
+    private String[] labels = new String[16];
+    private String[] normalized = new String[16];
+    /** Comprimento dos rótulos, lido no ranking sem acessar as strings. */
+    private int[] lengths = new int[16];
+    private int docCount;
+    /** Documentos abaixo deste número estão na ordem do ranking. */
+    private int rankedCount;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final String type;
+        private final long id;
+        private final String label;
+    }
+
+    /**
+     * Insere ou substitui a entrada (tipo, id).
+     */
+    public void put(String type, long id, String label) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(type, id);
+            addLocked(type, id, label);
+            compactIfNeededLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a entrada (tipo, id), se existir.
+     */
+    public void remove(String type, long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(type, id);
+            compactIfNeededLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Quantidade de entradas ativas.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deleted.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documentos internos alocados, incluindo os removidos ainda não compactados.
+     */
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Renumera os documentos na ordem do ranking e reduz as posting lists ao tamanho exato,
+     * após a carga inicial.
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Entradas cujas palavras começam com todos os termos da consulta.
+     * Entradas que começam pela consulta inteira vêm primeiro, seguidas das mais curtas. As que começam
+     * pela consulta são buscadas na lista da primeira palavra, as demais na menor lista dos termos; nas
+     * duas, a varredura termina quando o próximo documento já não pode entrar entre os {@code limit} melhores.
+     */
+    public List<Match> suggest(String query, int limit) {
+        String[] terms = tokenize(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            IntList[] lists = new IntList[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i].length() < MIN_PREFIX) {
+                    return List.of();
+                }
+                lists[i] = postings.get(indexedPrefix(terms[i]));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(IntList::size));
+
+            String prefix = String.join(" ", terms);
+            RankHeap best = new RankHeap(limit);
+            // Toda entrada que começa pela consulta está na lista da primeira palavra: a palavra inteira
+            // quando há mais termos, o prefixo quando a consulta tem um só
+            IntList leading = postings.get(LEADING + (terms.length > 1 ? terms[0] + " " : indexedPrefix(terms[0])));
+            if (leading != null) {
+                IntList[] withLeading = Arrays.copyOf(lists, lists.length + 1);
+                withLeading[lists.length] = leading;
+                Arrays.sort(withLeading, Comparator.comparingInt(IntList::size));
+                collect(withLeading, terms, prefix, true, best);
+            }
+            // Heap cheio só de entradas que começam pela consulta: as demais não teriam como entrar
+            if (!best.isFull()) {
+                collect(lists, terms, prefix, false, best);
+            }
+
+            long[] ranked = best.sorted();
+            List<Match> matches = new ArrayList<>(ranked.length);
+            for (long key : ranked) {
+                int doc = (int) (key & DOC_MASK);
+                matches.add(new Match(types[doc], ids[doc], labels[doc]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Oferece ao heap os documentos presentes em todas as {@code lists} (a primeira é a menor) que atendem
+     * à consulta: com {@code startsWithQuery}, os que começam pela consulta inteira; sem, os demais.
+     */
+    private void collect(IntList[] lists, String[] terms, String prefix, boolean startsWithQuery, RankHeap best) {
+        int ranked = lists[0].seek(0, rankedCount);
+        // Documentos incluídos após a última renumeração: fora de ordem, todos avaliados
+        collectRange(lists, ranked, lists[0].size(), terms, prefix, startsWithQuery, false, best);
+        collectRange(lists, 0, ranked, terms, prefix, startsWithQuery, true, best);
+    }
+
+    /**
+     * Intersecta as listas entre as posições {@code from} e {@code to} da menor, saltando direto para o
+     * próximo documento comum. Com {@code inRankOrder}, para no primeiro documento pior que o heap cheio.
+     */
+    private void collectRange(IntList[] lists, int from, int to, String[] terms, String prefix,
+                              boolean startsWithQuery, boolean inRankOrder, RankHeap best) {
+        IntList smallest = lists[0];
+        int[] positions = new int[lists.length];
+        int i = from;
+        while (i < to) {
+            int doc = smallest.get(i);
+            if (inRankOrder && best.isFull() && rankKey(doc, startsWithQuery) > best.worst()) {
+                return;
+            }
+            int common = align(lists, positions, doc);
+            if (common < 0) {
+                return;
+            }
+            if (common != doc) {
+                i = smallest.seek(i + 1, common);
+                continue;
+            }
+            if (!deleted.get(doc) && matchesText(doc, terms, prefix, startsWithQuery)) {
+                best.offer(rankKey(doc, startsWithQuery));
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Texto só dos candidatos que já passaram pelas posting lists e pelo bitmap de removidos.
+     */
+    private boolean matchesText(int doc, String[] terms, String prefix, boolean startsWithQuery) {
+        if (startsWithQuery) {
+            return normalized[doc].startsWith(prefix);
+        }
+        // As que começam pela consulta já foram avaliadas na lista da primeira palavra
+        return !normalized[doc].startsWith(prefix) && startsWords(doc, terms);
+    }
+
+    /**
+     * Chave de ranking em um long, menor é melhor: entradas que começam pela consulta, depois
+     * o comprimento do rótulo e, no empate, o documento.
+     */
+    private long rankKey(int doc, boolean startsWithQuery) {
+        return (startsWithQuery ? 0L : 1L << 62) | (long) lengths[doc] << 31 | doc;
+    }
+
+    /**
+     * Posiciona as demais listas em {@code doc}.
+     *
+     * @return {@code doc} se estiver em todas; senão o próximo documento de uma lista que não o contém,
+     * ou -1 se alguma lista terminou
+     */
+    private static int align(IntList[] lists, int[] positions, int doc) {
+        for (int l = 1; l < lists.length; l++) {
+            positions[l] = lists[l].seek(positions[l], doc);
+            if (positions[l] == lists[l].size()) {
+                return -1;
+            }
+            int next = lists[l].get(positions[l]);
+            if (next != doc) {
+                return next;
+            }
+        }
+        return doc;
+    }
+
+    /**
+     * Confere termos maiores que {@value #MAX_PREFIX} caracteres, que o índice cobre só em parte.
+     */
+    private boolean startsWords(int doc, String[] terms) {
+        for (String term : terms) {
+            if (term.length() > MAX_PREFIX && !(" " + normalized[doc]).contains(" " + term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addLocked(String type, long id, String label) {
+        if (docCount == ids.length) {
+            int capacity = docCount + (docCount >> 1);
+            types = Arrays.copyOf(types, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+            normalized = Arrays.copyOf(normalized, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        int doc = docCount++;
+        String[] words = tokenize(label);
+        types[doc] = type;
+        ids[doc] = id;
+        labels[doc] = label;
+        normalized[doc] = String.join(" ", words);
+        lengths[doc] = label.length();
+        docsByKey.put(key(type, id), doc);
+
+        for (String word : words) {
+            for (int length = MIN_PREFIX; length <= Math.min(word.length(), MAX_PREFIX); length++) {
+                postings.computeIfAbsent(word.substring(0, length), k -> new IntList()).add(doc);
+            }
+        }
+        if (words.length > 0) {
+            String first = words[0];
+            for (int length = MIN_PREFIX; length <= Math.min(first.length(), MAX_PREFIX); length++) {
+                postings.computeIfAbsent(LEADING + first.substring(0, length), k -> new IntList()).add(doc);
+            }
+            postings.computeIfAbsent(LEADING + first + " ", k -> new IntList()).add(doc);
+        }
+    }
+
+    private void removeLocked(String type, long id) {
+        Integer doc = docsByKey.remove(key(type, id));
+        if (doc != null) {
+            deleted.set(doc);
+            labels[doc] = null;
+            normalized[doc] = null;
+        }
+    }
+
+    private void compactIfNeededLocked() {
+        int removed = deleted.cardinality();
+        if (removed > COMPACT_THRESHOLD && removed > docCount - removed) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Recria o índice só com as entradas ativas, numeradas na ordem do ranking (rótulo mais curto primeiro).
+     */
+    private void compactLocked() {
+        String[] oldTypes = types;
+        long[] oldIds = ids;
+        String[] oldLabels = labels;
+        int oldCount = docCount;
+
+        // Comprimento do rótulo nos bits altos: a ordenação dos longs é a do ranking, estável pelo documento
+        long[] order = new long[oldCount - deleted.cardinality()];
+        int live = 0;
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (oldLabels[doc] != null) {
+                order[live++] = (long) oldLabels[doc].length() << 32 | doc;
+            }
+        }
+        Arrays.sort(order, 0, live);
+
+        int capacity = Math.max(16, live);
+        types = new String[capacity];
+        ids = new long[capacity];
+        labels = new String[capacity];
+        normalized = new String[capacity];
+        lengths = new int[capacity];
+        postings.clear();
+        docsByKey.clear();
+        deleted.clear();
+        docCount = 0;
+        for (int i = 0; i < live; i++) {
+            int doc = (int) order[i];
+            addLocked(oldTypes[doc], oldIds[doc], oldLabels[doc]);
+        }
+        rankedCount = docCount;
+        postings.values().forEach(IntList::trimToSize);
+    }
+
+    private static String key(String type, long id) {
+        return type + ":" + id;
+    }
+
+    private static String indexedPrefix(String term) {
+        return term.substring(0, Math.min(term.length(), MAX_PREFIX));
+    }
+
+    static String normalize(String text) {
+        String withoutMarks = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutMarks.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    private static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        String value = normalize(text);
+        return value.isEmpty() ? new String[0] : value.split(" ");
+    }
+
+    /**
+     * Heap de máximo de chaves de ranking, limitado a {@code capacity}: o pior candidato fica no topo.
+     */
+    private static final class RankHeap {
+
+        private final long[] keys;
+        private int size;
+
+        RankHeap(int capacity) {
+            keys = new long[capacity];
+        }
+
+        boolean isFull() {
+            return size == keys.length;
+        }
+
+        long worst() {
+            return keys[0];
+        }
+
+        void offer(long key) {
+            if (size < keys.length) {
+                int i = size++;
+                while (i > 0 && keys[(i - 1) / 2] < key) {
+                    keys[i] = keys[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                keys[i] = key;
+            } else if (key < keys[0]) {
+                int i = 0;
+                while (2 * i + 1 < size) {
+                    int child = 2 * i + 1;
+                    if (child + 1 < size && keys[child + 1] > keys[child]) {
+                        child++;
+                    }
+                    if (keys[child] <= key) {
+                        break;
+                    }
+                    keys[i] = keys[child];
+                    i = child;
+                }
+                keys[i] = key;
+            }
+        }
+
+        long[] sorted() {
+            long[] result = Arrays.copyOf(keys, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
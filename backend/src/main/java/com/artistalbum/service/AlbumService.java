@@ -1,26 +1,55 @@
 package com.artistalbum.service;
 
+import com.artistalbum.datasource.ReplicaRoutingDataSource;
 import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.dto.MultiGetResponse;
+import com.artistalbum.dto.SlicePage;
 import com.artistalbum.entity.Album;
 import com.artistalbum.entity.AlbumCover;
+import com.artistalbum.entity.AlbumListing;
 import com.artistalbum.entity.Artist;
+import com.artistalbum.event.CatalogChangedEvent;
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.exception.PreconditionFailedException;
 import com.artistalbum.exception.ResourceNotFoundException;
 import com.artistalbum.repository.AlbumCoverRepository;
+import com.artistalbum.repository.AlbumListingRepository;
+import com.artistalbum.repository.AlbumListingSpecifications;
 import com.artistalbum.repository.AlbumRepository;
 import com.artistalbum.repository.ArtistRepository;
+import com.artistalbum.repository.projection.IdCountRow;
+import com.artistalbum.repository.projection.VersionRow;
 import com.artistalbum.validation.FileValidator;
 import com.artistalbum.websocket.AlbumNotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,9 +63,24 @@ public class AlbumService {
     private final AlbumRepository albumRepository;
     private final ArtistRepository artistRepository;
     private final AlbumCoverRepository albumCoverRepository;
+    private final AlbumListingRepository albumListingRepository;
     private final MinioService minioService;
     private final AlbumNotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountEstimateService countEstimateService;
     private final FileValidator fileValidator;
+    private final CatalogDetailCache detailCache;
+    private final ArtistAlbumLinkService linkService;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_IDS_PER_REQUEST = 100;
+    /** Artistas e capas incluídos no detalhe do álbum; os demais ficam em /albums/{id}/artists e /covers. */
+    private static final int EMBEDDED_PAGE_SIZE = 20;
+
+    /** Propriedades de ordenação das listagens: apenas colunas presentes em album_listing. */
+    private static final Set<String> LISTING_SORT_PROPERTIES = Set.of("id", "title", "releaseYear", "genre",
+            "recordLabel", "totalTracks", "coverCount", "createdAt", "updatedAt");
 
     /**
      * Lista todos os álbuns com paginação.
@@ -44,8 +88,48 @@ public class AlbumService {
     @Transactional(readOnly = true)
     public Page<AlbumDTO.Response> findAll(Pageable pageable) {
         log.debug("Buscando todos os álbuns com paginação");
-        return albumRepository.findAllWithArtistsAndCoversPageable(pageable)
-                .map(this::toResponseWithPresignedUrls);
+        return albumListingRepository.findAll(listingPage(pageable)).map(this::toListResponse);
+    }
+
+    /**
+     * Lista álbuns navegando por cursor (título, id), sem contagem total.
+     *
+     * @param after cursor opaco da página anterior (vazio para a primeira página)
+     * @param size quantidade de itens por página
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AlbumDTO.Response> findAllByCursor(String after, int size) {
+        return findAllByCursor(new AlbumDTO.Filter(), after, size, FieldSelection.all());
+    }
+
+    /**
+     * Lista álbuns por cursor aplicando os mesmos filtros da listagem e montando apenas os campos solicitados.
+     * O cursor guarda só a posição (título, id): os filtros devem ser reenviados em cada página.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AlbumDTO.Response> findAllByCursor(AlbumDTO.Filter filter, String after, int size,
+                                                         FieldSelection fields) {
+        log.debug("Buscando álbuns por cursor - filtros: {}", filter);
+        CursorPage.Cursor cursor = CursorPage.Cursor.decode(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<AlbumListing> rows;
+        if (new AlbumDTO.Filter().equals(filter)) {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            rows = cursor == null
+                    ? albumListingRepository.findFirstKeysetPage(limit)
+                    : albumListingRepository.findKeysetPageAfter(cursor.getKey(), cursor.getId(), limit);
+        } else {
+            Specification<AlbumListing> spec = Specification.allOf(AlbumListingSpecifications.matching(filter),
+                    cursor == null ? null : AlbumListingSpecifications.titleAfter(cursor.getKey(), cursor.getId()));
+            // findSlice lê uma linha além do tamanho pedido; a página de pageSize + 1 linhas indica a seguinte
+            rows = albumListingRepository.findSlice(spec, PageRequest.of(0, pageSize + 1, Sort.by("title", "id")))
+                    .getContent();
+        }
+
+        return CursorPage.of(rows, pageSize,
+                row -> new CursorPage.Cursor(row.getTitle(), row.getId()),
+                row -> toListResponse(row, fields));
     }
 
     /**
@@ -54,8 +138,8 @@ public class AlbumService {
     @Transactional(readOnly = true)
     public Page<AlbumDTO.Response> findByTitle(String title, Pageable pageable) {
         log.debug("Buscando álbuns por título: {}", title);
-        return albumRepository.findByTitleContainingIgnoreCase(title, pageable)
-                .map(this::toResponseWithPresignedUrls);
+        return albumListingRepository.findByTitleContaining(title, listingPage(pageable))
+                .map(this::toListResponse);
     }
 
     /**
@@ -64,8 +148,8 @@ public class AlbumService {
     @Transactional(readOnly = true)
     public Page<AlbumDTO.Response> findByArtistName(String artistName, Pageable pageable) {
         log.debug("Buscando álbuns por nome do artista: {}", artistName);
-        return albumRepository.findByArtistNameContaining(artistName, pageable)
-                .map(this::toResponseWithPresignedUrls);
+        return albumListingRepository.findByArtistNameContaining(artistName, listingPage(pageable))
+                .map(this::toListResponse);
     }
 
     /**
@@ -74,19 +158,267 @@ public class AlbumService {
     @Transactional(readOnly = true)
     public Page<AlbumDTO.Response> findByArtistId(Long artistId, Pageable pageable) {
         log.debug("Buscando álbuns do artista ID: {}", artistId);
-        return albumRepository.findByArtistId(artistId, pageable)
-                .map(this::toResponseWithPresignedUrls);
+        return albumListingRepository.findByArtistId(artistId, listingPage(pageable))
+                .map(this::toListResponse);
     }
 
     /**
-     * Busca álbum por ID com detalhes.
+     * Busca álbuns combinando todos os filtros informados em uma única consulta.
+     */
+    @Transactional(readOnly = true)
+    public Page<AlbumDTO.Response> search(AlbumDTO.Filter filter, Pageable pageable) {
+        return search(filter, pageable, FieldSelection.all());
+    }
+
+    /**
+     * Busca álbuns combinando filtros e montando apenas os campos solicitados.
      */
     @Transactional(readOnly = true)
+    public Page<AlbumDTO.Response> search(AlbumDTO.Filter filter, Pageable pageable, FieldSelection fields) {
+        log.debug("Buscando álbuns com filtros: {} (campos: {})", filter, fields);
+        return albumListingRepository.findAll(AlbumListingSpecifications.matching(filter), listingPage(pageable))
+                .map(listing -> toListResponse(listing, fields));
+    }
+
+    /**
+     * Busca álbuns combinando filtros, com total exato, aproximado ou omitido conforme o modo de contagem.
+     * Nos modos ESTIMATE e NONE a página é lida sem COUNT.
+     */
+    @Transactional(readOnly = true)
+    public SlicePage<AlbumDTO.Response> searchSlice(AlbumDTO.Filter filter, Pageable pageable,
+                                                    SlicePage.CountMode countMode, FieldSelection fields) {
+        log.debug("Buscando álbuns com filtros: {} (contagem: {})", filter, countMode);
+        if (countMode == SlicePage.CountMode.EXACT) {
+            Page<AlbumDTO.Response> page = search(filter, pageable, fields);
+            return SlicePage.of(page, page.getTotalElements(), true);
+        }
+
+        Slice<AlbumDTO.Response> slice = albumListingRepository
+                .findSlice(AlbumListingSpecifications.matching(filter), listingPage(pageable))
+                .map(listing -> toListResponse(listing, fields));
+        if (countMode == SlicePage.CountMode.ESTIMATE) {
+            return SlicePage.of(slice, countEstimateService.estimateAlbums(filter), false);
+        }
+        return SlicePage.of(slice, null, null);
+    }
+
+    /**
+     * Busca álbum por ID com detalhes.
+     */
     public AlbumDTO.Response findById(Long id) {
-        log.debug("Buscando álbum por ID: {}", id);
-        Album album = albumRepository.findByIdWithArtistsAndCovers(id)
+        return findById(id, FieldSelection.all());
+    }
+
+    /**
+     * Busca álbum por ID carregando apenas as associações solicitadas, e delas apenas a primeira
+     * página ({@link #findArtists} e {@link #findCovers} para as demais).
+     * Capas só têm URL pré-assinada gerada quando o campo covers é solicitado.
+     * <p>
+     * O detalhe completo é servido do {@link CatalogDetailCache}; consultas com menos campos
+     * usam o cache quando o álbum já está nele e, caso contrário, leem só as associações
+     * solicitadas sem popular o cache. Um acerto no cache não abre transação.
+     */
+    public AlbumDTO.Response findById(Long id, FieldSelection fields) {
+        log.debug("Buscando álbum por ID: {} (campos: {})", id, fields);
+        boolean withArtists = fields.includes("artists");
+        boolean withCovers = fields.includes("covers");
+
+        AlbumDTO.Response detail = withArtists && withCovers
+                ? detailCache.album(id, this::loadDetail)
+                : detailCache.cachedAlbum(id);
+        if (detail != null) {
+            return copyOf(detail, withArtists, withCovers);
+        }
+
+        AlbumDTO.Response partial = readOnly().execute(status -> albumRepository.findById(id)
+                .map(album -> toDetail(album, withArtists, withCovers))
+                .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", id)));
+        return copyOf(partial, withArtists, withCovers);
+    }
+
+    /**
+     * Carrega o detalhe completo do álbum para o cache, sem URLs pré-assinadas.
+     * Lê do primário: uma réplica atrasada devolveria ao cache a versão anterior à alteração.
+     */
+    private AlbumDTO.Response loadDetail(Long id) {
+        return ReplicaRoutingDataSource.onPrimary(() -> readOnly().execute(status -> albumRepository.findById(id)
+                .map(album -> toDetail(album, true, true))
+                .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", id))));
+    }
+
+    /**
+     * Detalhe do álbum com a primeira página das associações solicitadas, sem URLs pré-assinadas.
+     * Cada associação custa uma consulta limitada, independente de quantos artistas ou capas o álbum tem.
+     */
+    private AlbumDTO.Response toDetail(Album album, boolean withArtists, boolean withCovers) {
+        AlbumDTO.Response response = AlbumDTO.Response.fromEntity(album);
+        if (withArtists) {
+            response.withArtists(artistPage(album.getId(), 0L, EMBEDDED_PAGE_SIZE));
+        }
+        if (withCovers) {
+            response.withCovers(coverPage(album.getId(), 0L, EMBEDDED_PAGE_SIZE));
+        }
+        return response;
+    }
+
+    /**
+     * Artistas do álbum navegando por cursor (ID do artista), com a contagem de álbuns de cada um.
+     * A primeira página é a mesma incluída no detalhe do álbum, que informa o cursor da seguinte.
+     *
+     * @param after cursor opaco da página anterior (vazio para a primeira página)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArtistDTO.Summary> findArtists(Long albumId, String after, int size) {
+        log.debug("Buscando artistas do álbum {} por cursor", albumId);
+        CursorPage<ArtistDTO.Summary> page = artistPage(albumId, CursorPage.Cursor.decodeId(after), pageSize(size));
+        if (page.getContent().isEmpty() && !albumRepository.existsById(albumId)) {
+            throw new ResourceNotFoundException("Álbum", "id", albumId);
+        }
+        return page;
+    }
+
+    /**
+     * Capas do álbum navegando por cursor (ID da capa), com URLs pré-assinadas.
+     * A primeira página é a mesma incluída no detalhe do álbum, que informa o cursor da seguinte.
+     *
+     * @param after cursor opaco da página anterior (vazio para a primeira página)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AlbumDTO.CoverResponse> findCovers(Long albumId, String after, int size) {
+        log.debug("Buscando capas do álbum {} por cursor", albumId);
+        CursorPage<AlbumDTO.CoverResponse> page = coverPage(albumId, CursorPage.Cursor.decodeId(after), pageSize(size));
+        if (page.getContent().isEmpty() && !albumRepository.existsById(albumId)) {
+            throw new ResourceNotFoundException("Álbum", "id", albumId);
+        }
+        page.getContent().forEach(cover ->
+                cover.setPresignedUrl(minioService.getPresignedUrl(cover.getObjectKey())));
+        return page;
+    }
+
+    private CursorPage<ArtistDTO.Summary> artistPage(Long albumId, long afterId, int size) {
+        List<Artist> artists = artistRepository.findPageByAlbumId(albumId, afterId, PageRequest.of(0, size + 1));
+        Map<Long, Long> albumCounts = albumCounts(artists);
+        return CursorPage.of(artists, size,
+                artist -> CursorPage.Cursor.ofId(artist.getId()),
+                artist -> ArtistDTO.Summary.fromEntity(artist, albumCounts.getOrDefault(artist.getId(), 0L).intValue()));
+    }
+
+    private CursorPage<AlbumDTO.CoverResponse> coverPage(Long albumId, long afterId, int size) {
+        List<AlbumCover> covers = albumCoverRepository.findPageByAlbumId(albumId, afterId, PageRequest.of(0, size + 1));
+        return CursorPage.of(covers, size,
+                cover -> CursorPage.Cursor.ofId(cover.getId()),
+                AlbumDTO.CoverResponse::fromEntity);
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    }
+
+    /**
+     * Cópia do detalhe em cache com as associações solicitadas e URLs pré-assinadas atuais.
+     * O DTO em cache é compartilhado e nunca é alterado.
+     */
+    private AlbumDTO.Response copyOf(AlbumDTO.Response detail, boolean withArtists, boolean withCovers) {
+        List<AlbumDTO.CoverResponse> covers = null;
+        if (withCovers) {
+            covers = detail.getCovers().stream()
+                    .map(cover -> cover.toBuilder().build())
+                    .collect(Collectors.toList());
+            covers.forEach(cover ->
+                    cover.setPresignedUrl(minioService.getPresignedUrl(cover.getObjectKey())));
+        }
+        return detail.toBuilder()
+                .artists(withArtists ? new ArrayList<>(detail.getArtists()) : null)
+                .artistsNextCursor(withArtists ? detail.getArtistsNextCursor() : null)
+                .covers(covers)
+                .coversNextCursor(withCovers ? detail.getCoversNextCursor() : null)
+                .build();
+    }
+
+    /**
+     * Rejeita com 400 a ordenação por propriedades que não existem em album_listing.
+     */
+    private static Pageable listingPage(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!LISTING_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new BusinessException("Ordenação não suportada: " + order.getProperty()
+                        + ". Use um de: " + String.join(", ", new TreeSet<>(LISTING_SORT_PROPERTIES)));
+            }
+        }
+        return pageable;
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * Validadores de GET condicional do álbum, a partir de uma leitura da versão pela chave primária.
+     * A ETag combina a versão do álbum com a alteração mais recente dos seus artistas e, quando as capas
+     * fazem parte da representação, com a janela de validade das URLs pré-assinadas, para que um 304
+     * nunca prolongue o uso de URLs prestes a expirar.
+     */
+    @Transactional(readOnly = true)
+    public EntityTag.Validators findValidators(Long id, FieldSelection fields) {
+        VersionRow row = albumRepository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", id));
-        return toResponseWithPresignedUrls(album);
+        long lastModified = EntityTag.epochMillis(row.getUpdatedAt());
+        String eTag = fields.includes("covers")
+                ? EntityTag.of(row.getVersion(), lastModified, minioService.presignedUrlWindow())
+                : EntityTag.of(row.getVersion(), lastModified);
+        return new EntityTag.Validators(eTag, lastModified);
+    }
+
+    /**
+     * Busca vários álbuns por ID, na ordem solicitada, informando os IDs não encontrados.
+     * Executa uma consulta por associação solicitada, independente da quantidade de IDs.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<AlbumDTO.Response> findAllByIds(List<Long> ids, FieldSelection fields) {
+        log.debug("Buscando {} álbuns por ID", ids.size());
+        validateIds(ids);
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+
+        List<Album> albums = fields.includes("artists")
+                ? albumRepository.findAllWithArtistsByIdIn(distinctIds)
+                : albumRepository.findAllById(distinctIds);
+        if (fields.includes("covers") && !albums.isEmpty()) {
+            // Inicializa as capas das instâncias já carregadas no contexto de persistência
+            albumRepository.findAllWithCoversByIdIn(distinctIds);
+        }
+
+        Map<Long, Album> byId = albums.stream()
+                .collect(Collectors.toMap(Album::getId, Function.identity(), (a, b) -> a));
+        Map<Long, Long> artistAlbumCounts = fields.includes("artists") ? artistAlbumCounts(albums) : Map.of();
+        return MultiGetResponse.of(ids, byId, album -> toResponse(album, fields, artistAlbumCounts));
+    }
+
+    private void validateIds(List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new BusinessException("Informe de 1 a " + MAX_IDS_PER_REQUEST + " IDs");
+        }
+    }
+
+    /**
+     * Converte para DTO incluindo apenas as associações solicitadas (já carregadas), limitadas à
+     * primeira página na ordem de {@link #findArtists} e {@link #findCovers}.
+     */
+    private AlbumDTO.Response toResponse(Album album, FieldSelection fields, Map<Long, Long> artistAlbumCounts) {
+        AlbumDTO.Response response = AlbumDTO.Response.fromEntity(album);
+        if (fields.includes("artists")) {
+            response.withArtists(CursorPage.firstById(album.getArtists(), EMBEDDED_PAGE_SIZE, Artist::getId,
+                    artist -> ArtistDTO.Summary.fromEntity(artist,
+                            artistAlbumCounts.getOrDefault(artist.getId(), 0L).intValue())));
+        }
+        if (fields.includes("covers")) {
+            response.withCovers(CursorPage.firstById(album.getCovers(), EMBEDDED_PAGE_SIZE, AlbumCover::getId,
+                    AlbumDTO.CoverResponse::fromEntity));
+            response.getCovers().forEach(cover ->
+                    cover.setPresignedUrl(minioService.getPresignedUrl(cover.getObjectKey())));
+        }
+        return response;
     }
 
     /**
@@ -105,16 +437,22 @@ public class AlbumService {
                 .description(request.getDescription())
                 .build();
 
-        // Associar artistas se fornecidos
+        Album saved = albumRepository.save(album);
+
+        // Associar artistas se fornecidos, direto em artist_album, sem carregar os álbuns de cada artista
+        Set<Long> artistIds = new HashSet<>();
         if (request.getArtistIds() != null && !request.getArtistIds().isEmpty()) {
-            Set<Artist> artists = new HashSet<>(artistRepository.findAllById(request.getArtistIds()));
-            for (Artist artist : artists) {
-                artist.getAlbums().add(album);
-            }
-            album.setArtists(artists);
+            List<Artist> artists = artistRepository.findAllById(request.getArtistIds());
+            artists.forEach(artist -> artistIds.add(artist.getId()));
+            // O vínculo referencia a linha do álbum, que precisa estar gravada
+            albumRepository.flush();
+            linkService.linkArtists(saved.getId(), artistIds);
+            artists.forEach(Artist::markLinksChanged);
         }
 
-        Album saved = albumRepository.save(album);
+        albumListingRepository.refresh(List.of(saved.getId()));
+        evictArtistsWithAlbums(artistIds);
+        eventPublisher.publishEvent(CatalogChangedEvent.albumSaved(saved.getId(), saved.getTitle()));
         log.info("Álbum criado com ID: {}", saved.getId());
 
         // Notificar via WebSocket
@@ -128,10 +466,30 @@ public class AlbumService {
      */
     @Transactional
     public AlbumDTO.Response update(Long id, AlbumDTO.Request request) {
+        return update(id, request, null);
+    }
+
+    /**
+     * Atualiza um álbum existente se ainda estiver no estado informado em If-Match.
+     *
+     * @param expected validador (versão e data de alteração) conhecido pelo cliente; null dispensa a verificação
+     * @throws PreconditionFailedException se o álbum ou seus vínculos foram alterados desde a ETag informada
+     */
+    @Transactional
+    public AlbumDTO.Response update(Long id, AlbumDTO.Request request, EntityTag.Precondition expected) {
         log.info("Atualizando álbum ID: {}", id);
 
         Album album = albumRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", id));
+        if (expected != null) {
+            // Mesma leitura do GET: vínculos alterados pelo outro lado mudam a data, não a versão
+            VersionRow current = albumRepository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", id));
+            if (!expected.matches(current.getVersion(), EntityTag.epochMillis(current.getUpdatedAt()))) {
+                throw new PreconditionFailedException("Álbum", id, current.getVersion());
+            }
+        }
+        Set<Long> previousArtistIds = new HashSet<>(artistRepository.findIdsByAlbumId(id));
 
         album.setTitle(request.getTitle());
         album.setReleaseYear(request.getReleaseYear());
@@ -140,24 +498,42 @@ public class AlbumService {
         album.setTotalTracks(request.getTotalTracks());
         album.setDescription(request.getDescription());
 
-        // Atualizar artistas se fornecidos
-        if (request.getArtistIds() != null) {
-            // Remover álbum dos artistas antigos
-            for (Artist artist : album.getArtists()) {
-                artist.getAlbums().remove(album);
-            }
-            
-            // Adicionar álbum aos novos artistas
-            Set<Artist> newArtists = new HashSet<>(artistRepository.findAllById(request.getArtistIds()));
-            for (Artist artist : newArtists) {
-                artist.getAlbums().add(album);
-            }
-            album.setArtists(newArtists);
+        // Atualizar artistas se fornecidos: só a diferença é gravada, sem carregar as coleções
+        if (request.getArtistIds() != null && relinkArtists(id, previousArtistIds, request.getArtistIds())) {
+            album.markLinksChanged();
         }
 
         Album updated = albumRepository.save(album);
+        // O refresh da listagem faz flush: a versão retornada (ETag) já é a incrementada
+        albumListingRepository.refresh(List.of(updated.getId()));
+        evictAfterUpdate(updated, previousArtistIds);
+        eventPublisher.publishEvent(CatalogChangedEvent.albumSaved(updated.getId(), updated.getTitle()));
         log.info("Álbum atualizado: {}", updated.getId());
-        return toResponseWithPresignedUrls(updated);
+        return copyOf(toDetail(updated, true, true), true, true);
+    }
+
+    /**
+     * Grava a diferença entre os artistas atuais e os solicitados direto em artist_album.
+     * Só os artistas incluídos e removidos são carregados, para marcá-los como alterados
+     * (a coleção de álbuns deles mudou); IDs inexistentes são ignorados.
+     *
+     * @return true se algum vínculo mudou
+     */
+    private boolean relinkArtists(Long albumId, Set<Long> currentArtistIds, List<Long> requestedArtistIds) {
+        Set<Long> toAdd = new HashSet<>(requestedArtistIds);
+        toAdd.removeAll(currentArtistIds);
+        Set<Long> toRemove = new HashSet<>(currentArtistIds);
+        toRemove.removeAll(requestedArtistIds);
+        if (toAdd.isEmpty() && toRemove.isEmpty()) {
+            return false;
+        }
+
+        Set<Long> changed = new HashSet<>(toAdd);
+        changed.addAll(toRemove);
+        List<Artist> changedArtists = artistRepository.findAllById(changed);
+        changedArtists.forEach(Artist::markLinksChanged);
+        toAdd.retainAll(changedArtists.stream().map(Artist::getId).collect(Collectors.toSet()));
+        return linkService.linkArtists(albumId, toAdd) + linkService.unlinkArtists(albumId, toRemove) > 0;
     }
 
     /**
@@ -179,12 +555,16 @@ public class AlbumService {
             }
         }
 
-        // Remover associações com artistas
-        for (Artist artist : album.getArtists()) {
-            artist.getAlbums().remove(album);
-        }
+        // Remover associações com artistas, sem carregar os álbuns de cada artista
+        Set<Long> artistIds = album.getArtists().stream().map(Artist::getId).collect(Collectors.toSet());
+        linkService.unlinkArtists(id, artistIds);
+        album.getArtists().forEach(Artist::markLinksChanged);
+        detailCache.evictAlbum(id);
+        evictArtistsWithAlbums(artistIds);
 
+        // A linha de album_listing é removida em cascata (FK ON DELETE CASCADE)
         albumRepository.delete(album);
+        eventPublisher.publishEvent(CatalogChangedEvent.albumDeleted(id));
         log.info("Álbum removido: {}", id);
     }
 
@@ -198,8 +578,7 @@ public class AlbumService {
         // Validar arquivos antes do upload
         fileValidator.validateFiles(files);
 
-        Album album = albumRepository.findById(albumId)
-                .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", albumId));
+        Album album = loadForCoverChange(albumId);
 
         // Se setPrimary, remover flag de todas as capas existentes
         if (setPrimary) {
@@ -220,6 +599,7 @@ public class AlbumService {
             
             return albumCoverRepository.save(cover);
         }).collect(Collectors.toList());
+        albumListingRepository.refresh(List.of(albumId));
 
         return covers.stream()
                 .map(cover -> {
@@ -243,9 +623,11 @@ public class AlbumService {
         if (!cover.getAlbum().getId().equals(albumId)) {
             throw new ResourceNotFoundException("Capa", "albumId", albumId);
         }
+        loadForCoverChange(albumId);
 
         minioService.deleteFile(cover.getObjectKey());
         albumCoverRepository.delete(cover);
+        albumListingRepository.refresh(List.of(albumId));
         log.info("Capa removida: {}", coverId);
     }
 
@@ -256,8 +638,10 @@ public class AlbumService {
     public AlbumDTO.CoverResponse setPrimaryCover(Long albumId, Long coverId) {
         log.info("Definindo capa {} como principal do álbum {}", coverId, albumId);
 
-        // Usar lock pessimista para evitar race conditions
-        List<AlbumCover> covers = albumCoverRepository.findByAlbumIdWithLock(albumId);
+        // Sem lock de linha: uma troca concorrente de capa principal no mesmo álbum
+        // falha com conflito de versão (412) ao gravar o álbum
+        loadForCoverChange(albumId);
+        List<AlbumCover> covers = albumCoverRepository.findByAlbumId(albumId);
 
         AlbumCover targetCover = covers.stream()
                 .filter(c -> c.getId().equals(coverId))
@@ -268,25 +652,124 @@ public class AlbumService {
         covers.forEach(c -> c.setIsPrimary(false));
         targetCover.setIsPrimary(true);
         albumCoverRepository.saveAll(covers);
+        albumListingRepository.refresh(List.of(albumId));
 
         AlbumDTO.CoverResponse response = AlbumDTO.CoverResponse.fromEntity(targetCover);
         response.setPresignedUrl(minioService.getPresignedUrl(targetCover.getObjectKey()));
         return response;
     }
 
+    private AlbumDTO.Response toListResponse(AlbumListing listing) {
+        return toListResponse(listing, FieldSelection.all());
+    }
+
     /**
-     * Converte entidade para DTO com URLs pré-assinadas.
+     * Converte uma linha de album_listing em DTO de listagem.
+     * Apenas a capa principal é incluída (com URL pré-assinada, gerada só se covers for solicitado);
+     * a descrição não faz parte da listagem.
      */
-    private AlbumDTO.Response toResponseWithPresignedUrls(Album album) {
-        AlbumDTO.Response response = AlbumDTO.Response.fromEntityWithDetails(album);
-        
-        if (response.getCovers() != null && !response.getCovers().isEmpty()) {
-            // Gerar URLs em paralelo para melhor performance
-            response.getCovers().parallelStream().forEach(cover -> {
-                cover.setPresignedUrl(minioService.getPresignedUrl(cover.getObjectKey()));
-            });
+    private AlbumDTO.Response toListResponse(AlbumListing listing, FieldSelection fields) {
+        List<ArtistDTO.Summary> artists = null;
+        if (fields.includes("artists")) {
+            artists = new ArrayList<>(listing.getArtistIds().length);
+            for (int i = 0; i < listing.getArtistIds().length; i++) {
+                artists.add(ArtistDTO.Summary.builder()
+                        .id(listing.getArtistIds()[i])
+                        .name(listing.getArtistNames()[i])
+                        .build());
+            }
         }
-        
-        return response;
+
+        List<AlbumDTO.CoverResponse> covers = !fields.includes("covers") ? null
+                : listing.getPrimaryCoverKey() == null ? List.of() : List.of(
+                AlbumDTO.CoverResponse.builder()
+                        .id(listing.getPrimaryCoverId())
+                        .objectKey(listing.getPrimaryCoverKey())
+                        .isPrimary(true)
+                        .presignedUrl(minioService.getPresignedUrl(listing.getPrimaryCoverKey()))
+                        .build());
+
+        return AlbumDTO.Response.builder()
+                .id(listing.getId())
+                .title(listing.getTitle())
+                .releaseYear(listing.getReleaseYear())
+                .genre(listing.getGenre())
+                .recordLabel(listing.getRecordLabel())
+                .totalTracks(listing.getTotalTracks())
+                .artists(artists)
+                .covers(covers)
+                .createdAt(listing.getCreatedAt())
+                .updatedAt(listing.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Carrega o álbum cujas capas serão alteradas e o marca como alterado. O UPDATE versionado
+     * no commit faz alterações concorrentes de capas do mesmo álbum falharem com conflito de versão,
+     * sem lock de linha, e mantém updatedAt/ETag coerentes com a lista de capas.
+     * Os artistas também saem do cache, pois o detalhe deles traz a capa principal do álbum.
+     */
+    private Album loadForCoverChange(Long albumId) {
+        Album album = albumRepository.findById(albumId)
+                .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", albumId));
+        album.setUpdatedAt(LocalDateTime.now());
+        detailCache.evictAlbum(albumId);
+        detailCache.evictArtists(artistIdsOf(album));
+        return album;
+    }
+
+    /**
+     * Remove do cache o álbum alterado e seus artistas (antigos e atuais). Se os vínculos mudaram,
+     * a contagem de álbuns desses artistas mudou e os demais álbuns deles também são removidos.
+     */
+    private void evictAfterUpdate(Album album, Set<Long> previousArtistIds) {
+        Set<Long> artistIds = artistIdsOf(album);
+        detailCache.evictAlbum(album.getId());
+        if (artistIds.equals(previousArtistIds)) {
+            detailCache.evictArtists(artistIds);
+        } else {
+            artistIds.addAll(previousArtistIds);
+            evictArtistsWithAlbums(artistIds);
+        }
+    }
+
+    /**
+     * Remove do cache os artistas e todos os seus álbuns, cujo detalhe traz a contagem de álbuns do artista.
+     * Usado também pela importação, que grava vínculos por SQL.
+     */
+    public void evictArtistsWithAlbums(Set<Long> artistIds) {
+        if (!artistIds.isEmpty()) {
+            detailCache.evictArtists(artistIds);
+            detailCache.evictAlbums(albumRepository.findIdsByArtistIdIn(artistIds));
+        }
+    }
+
+    /**
+     * Quantidade de álbuns dos artistas dos álbuns informados, em uma única consulta agregada,
+     * sem inicializar a coleção de álbuns de cada artista.
+     */
+    private Map<Long, Long> artistAlbumCounts(Collection<Album> albums) {
+        return albumCounts(albums.stream()
+                .flatMap(album -> album.getArtists().stream())
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Quantidade de álbuns de cada artista informado, em uma única consulta agregada.
+     */
+    private Map<Long, Long> albumCounts(Collection<Artist> artists) {
+        if (artists.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> artistIds = artists.stream().map(Artist::getId).collect(Collectors.toSet());
+        return artistRepository.countAlbumsByArtistIdIn(artistIds).stream()
+                .collect(Collectors.toMap(IdCountRow::getId, IdCountRow::getCount));
+    }
+
+    /**
+     * IDs dos artistas do álbum, sem carregar a coleção de artistas.
+     */
+    private Set<Long> artistIdsOf(Album album) {
+        return new HashSet<>(artistRepository.findIdsByAlbumId(album.getId()));
     }
 }
@@ -0,0 +1,109 @@
+package com.artistalbum.service;
+
+import com.artistalbum.repository.CatalogBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Vínculos artista–álbum gravados direto na tabela artist_album, um comando por operação.
+ * <p>
+ * As coleções {@code Artist.albums} e {@code Album.artists} não são carregadas: o custo acompanha
+ * a quantidade de vínculos alterados, não o tamanho das coleções. Em troca, as coleções já
+ * inicializadas na sessão ficam desatualizadas; os chamadores não devem acessá-las antes da alteração.
+ * As coleções no cache de segundo nível são descartadas aqui. Nas operações pelo lado do artista,
+ * a data de alteração dos álbuns afetados também é avançada aqui (o detalhe do álbum traz seus artistas);
+ * versão do artista ou do álbum, album_listing e cache de detalhes continuam a cargo dos chamadores.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArtistAlbumLinkService {
+
+    private final CatalogBulkRepository catalogBulkRepository;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    /**
+     * Vincula os álbuns ao artista, ignorando vínculos já existentes.
+     *
+     * @return quantidade de vínculos criados
+     */
+    public int linkAlbums(Long artistId, Collection<Long> albumIds) {
+        if (albumIds.isEmpty()) {
+            return 0;
+        }
+        int linked = catalogBulkRepository.insertLinks(repeat(artistId, albumIds.size()), albumIds.toArray(Long[]::new));
+        if (linked > 0) {
+            catalogBulkRepository.touchAlbums(albumIds);
+        }
+        secondLevelCacheEvictor.evictLinkCollections(List.of(artistId), albumIds);
+        log.debug("{} álbum(ns) vinculado(s) ao artista {}", linked, artistId);
+        return linked;
+    }
+
+    /**
+     * Desvincula os álbuns do artista.
+     *
+     * @return quantidade de vínculos removidos
+     */
+    public int unlinkAlbums(Long artistId, Collection<Long> albumIds) {
+        if (albumIds.isEmpty()) {
+            return 0;
+        }
+        int unlinked = catalogBulkRepository.deleteLinks(repeat(artistId, albumIds.size()), albumIds.toArray(Long[]::new));
+        if (unlinked > 0) {
+            catalogBulkRepository.touchAlbums(albumIds);
+        }
+        secondLevelCacheEvictor.evictLinkCollections(List.of(artistId), albumIds);
+        log.debug("{} álbum(ns) desvinculado(s) do artista {}", unlinked, artistId);
+        return unlinked;
+    }
+
+    /**
+     * Avança a data de alteração dos álbuns que perderam vínculos fora deste serviço
+     * (remoção do artista, em cascata) e descarta as coleções de artistas deles do cache.
+     */
+    public void touchAlbums(Collection<Long> albumIds) {
+        if (albumIds.isEmpty()) {
+            return;
+        }
+        catalogBulkRepository.touchAlbums(albumIds);
+        secondLevelCacheEvictor.evictLinkCollections(List.of(), albumIds);
+    }
+
+    /**
+     * Vincula os artistas ao álbum, ignorando vínculos já existentes.
+     *
+     * @return quantidade de vínculos criados
+     */
+    public int linkArtists(Long albumId, Collection<Long> artistIds) {
+        if (artistIds.isEmpty()) {
+            return 0;
+        }
+        int linked = catalogBulkRepository.insertLinks(artistIds.toArray(Long[]::new), repeat(albumId, artistIds.size()));
+        secondLevelCacheEvictor.evictLinkCollections(artistIds, List.of(albumId));
+        return linked;
+    }
+
+    /**
+     * Desvincula os artistas do álbum.
+     *
+     * @return quantidade de vínculos removidos
+     */
+    public int unlinkArtists(Long albumId, Collection<Long> artistIds) {
+        if (artistIds.isEmpty()) {
+            return 0;
+        }
+        int unlinked = catalogBulkRepository.deleteLinks(artistIds.toArray(Long[]::new), repeat(albumId, artistIds.size()));
+        secondLevelCacheEvictor.evictLinkCollections(artistIds, List.of(albumId));
+        return unlinked;
+    }
+
+    private static Long[] repeat(Long id, int times) {
+        return Collections.nCopies(times, id).toArray(Long[]::new);
+    }
+}
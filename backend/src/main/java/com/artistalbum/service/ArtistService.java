@@ -1,21 +1,48 @@
 package com.artistalbum.service;
 
+import com.artistalbum.datasource.ReplicaRoutingDataSource;
+import com.artistalbum.dto.AlbumDTO;
 import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.dto.MultiGetResponse;
+import com.artistalbum.dto.SlicePage;
 import com.artistalbum.entity.Album;
 import com.artistalbum.entity.Artist;
+import com.artistalbum.event.CatalogChangedEvent;
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.exception.PreconditionFailedException;
 import com.artistalbum.exception.ResourceNotFoundException;
+import com.artistalbum.repository.AlbumCoverRepository;
+import com.artistalbum.repository.AlbumListingRepository;
 import com.artistalbum.repository.AlbumRepository;
 import com.artistalbum.repository.ArtistRepository;
+import com.artistalbum.repository.projection.IdCountRow;
+import com.artistalbum.repository.projection.IdLabelRow;
+import com.artistalbum.repository.projection.VersionRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço para gerenciamento de artistas.
@@ -27,15 +54,75 @@ public class ArtistService {
 
     private final ArtistRepository artistRepository;
     private final AlbumRepository albumRepository;
+    private final AlbumListingRepository albumListingRepository;
+    private final AlbumCoverRepository albumCoverRepository;
+    private final ArtistAlbumLinkService linkService;
+    private final MinioService minioService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountEstimateService countEstimateService;
+    private final CatalogDetailCache detailCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_IDS_PER_REQUEST = 100;
+    private static final int MAX_LINKS_PER_REQUEST = 1000;
+    /** Álbuns incluídos no detalhe do artista; os demais ficam em /artists/{id}/albums. */
+    private static final int EMBEDDED_PAGE_SIZE = 20;
 
     /**
      * Lista todos os artistas com paginação.
      */
     @Transactional(readOnly = true)
     public Page<ArtistDTO.Response> findAll(Pageable pageable) {
+        return findAll(pageable, FieldSelection.all());
+    }
+
+    /**
+     * Lista artistas montando apenas os campos solicitados.
+     */
+    @Transactional(readOnly = true)
+    public Page<ArtistDTO.Response> findAll(Pageable pageable, FieldSelection fields) {
         log.debug("Buscando todos os artistas com paginação");
-        return artistRepository.findAll(pageable)
-                .map(ArtistDTO.Response::fromEntity);
+        Page<Artist> page = artistRepository.findAll(pageable);
+        return page.map(responseMapper(page.getContent(), fields));
+    }
+
+    /**
+     * Lista artistas navegando por cursor (nome, id), sem contagem total.
+     *
+     * @param after cursor opaco da página anterior (vazio para a primeira página)
+     * @param size quantidade de itens por página
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArtistDTO.Response> findAllByCursor(String after, int size) {
+        return findAllByCursor(null, after, size, FieldSelection.all());
+    }
+
+    /**
+     * Lista artistas por cursor, opcionalmente filtrando por nome, montando apenas os campos solicitados.
+     * O cursor guarda só a posição (nome, id): o filtro deve ser reenviado em cada página.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArtistDTO.Response> findAllByCursor(String name, String after, int size, FieldSelection fields) {
+        log.debug("Buscando artistas por cursor - filtro: {}", name);
+        CursorPage.Cursor cursor = CursorPage.Cursor.decode(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Artist> artists;
+        if (name == null || name.isBlank()) {
+            artists = cursor == null
+                    ? artistRepository.findFirstKeysetPage(limit)
+                    : artistRepository.findKeysetPageAfter(cursor.getKey(), cursor.getId(), limit);
+        } else {
+            artists = cursor == null
+                    ? artistRepository.findFirstKeysetPageByName(name, limit)
+                    : artistRepository.findKeysetPageByNameAfter(name, cursor.getKey(), cursor.getId(), limit);
+        }
+
+        return CursorPage.of(artists, pageSize,
+                artist -> new CursorPage.Cursor(artist.getName(), artist.getId()),
+                responseMapper(artists, fields));
     }
 
     /**
@@ -43,20 +130,229 @@ public class ArtistService {
      */
     @Transactional(readOnly = true)
     public Page<ArtistDTO.Response> findByName(String name, Pageable pageable) {
+        return findByName(name, pageable, FieldSelection.all());
+    }
+
+    /**
+     * Busca artistas por nome montando apenas os campos solicitados.
+     */
+    @Transactional(readOnly = true)
+    public Page<ArtistDTO.Response> findByName(String name, Pageable pageable, FieldSelection fields) {
         log.debug("Buscando artistas por nome: {}", name);
-        return artistRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(ArtistDTO.Response::fromEntity);
+        Page<Artist> page = artistRepository.findByNameContainingIgnoreCase(name, pageable);
+        return page.map(responseMapper(page.getContent(), fields));
     }
 
     /**
-     * Busca artista por ID com álbuns.
+     * Lista artistas (opcionalmente filtrados por nome) com total exato, aproximado ou omitido
+     * conforme o modo de contagem. Nos modos ESTIMATE e NONE a página é lida sem COUNT.
      */
     @Transactional(readOnly = true)
+    public SlicePage<ArtistDTO.Response> findAllSlice(String name, Pageable pageable,
+                                                      SlicePage.CountMode countMode, FieldSelection fields) {
+        log.debug("Buscando artistas - filtro: {} (contagem: {})", name, countMode);
+        boolean filtered = name != null && !name.isBlank();
+        if (countMode == SlicePage.CountMode.EXACT) {
+            Page<ArtistDTO.Response> page = filtered ? findByName(name, pageable, fields) : findAll(pageable, fields);
+            return SlicePage.of(page, page.getTotalElements(), true);
+        }
+
+        Slice<Artist> artists = filtered
+                ? artistRepository.findSliceByNameContaining(name, pageable)
+                : artistRepository.findAllAsSlice(pageable);
+        Slice<ArtistDTO.Response> slice = artists.map(responseMapper(artists.getContent(), fields));
+        if (countMode == SlicePage.CountMode.ESTIMATE) {
+            return SlicePage.of(slice, countEstimateService.estimateArtists(name), false);
+        }
+        return SlicePage.of(slice, null, null);
+    }
+
+    /**
+     * Busca artista por ID com álbuns.
+     */
     public ArtistDTO.Response findById(Long id) {
-        log.debug("Buscando artista por ID: {}", id);
-        Artist artist = artistRepository.findByIdWithAlbums(id)
+        return findById(id, FieldSelection.all());
+    }
+
+    /**
+     * Busca artista por ID; os álbuns só são carregados se albums ou albumCount forem solicitados,
+     * e apenas a primeira página deles ({@link #findAlbums} para as demais).
+     * O detalhe com álbuns é servido do {@link CatalogDetailCache}; sem álbuns, o cache só é usado
+     * se o artista já estiver nele. As URLs das capas principais são geradas a cada resposta.
+     */
+    public ArtistDTO.Response findById(Long id, FieldSelection fields) {
+        log.debug("Buscando artista por ID: {} (campos: {})", id, fields);
+        boolean withAlbums = fields.includes("albums") || fields.includes("albumCount");
+
+        ArtistDTO.Response detail = withAlbums
+                ? detailCache.artist(id, this::loadDetail)
+                : detailCache.cachedArtist(id);
+        if (detail != null) {
+            return detail.toBuilder()
+                    .albumCount(withAlbums ? detail.getAlbumCount() : null)
+                    .albums(fields.includes("albums") ? withCoverUrls(detail.getAlbums()) : null)
+                    .albumsNextCursor(fields.includes("albums") ? detail.getAlbumsNextCursor() : null)
+                    .build();
+        }
+
+        return readOnly().execute(status -> artistRepository.findById(id)
+                .map(ArtistDTO.Response::fromEntityWithoutAlbums)
+                .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", id)));
+    }
+
+    /**
+     * Carrega o detalhe do artista com a primeira página de álbuns para o cache, sem URLs pré-assinadas.
+     * Lê do primário: uma réplica atrasada devolveria ao cache a versão anterior à alteração.
+     */
+    private ArtistDTO.Response loadDetail(Long id) {
+        return ReplicaRoutingDataSource.onPrimary(() -> readOnly().execute(status -> artistRepository.findById(id)
+                .map(this::toDetail)
+                .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", id))));
+    }
+
+    /**
+     * Detalhe do artista com a primeira página de álbuns: uma consulta para a página, uma para
+     * as capas principais dela e, só se houver mais álbuns, uma para a contagem.
+     */
+    private ArtistDTO.Response toDetail(Artist artist) {
+        CursorPage<AlbumDTO.Summary> albums = albumPage(artist.getId(), 0L, EMBEDDED_PAGE_SIZE);
+        int albumCount = albums.isHasNext() ? albumCount(artist.getId()) : albums.getSize();
+        return ArtistDTO.Response.fromEntityWithAlbums(artist, albumCount, albums);
+    }
+
+    /**
+     * Álbuns do artista navegando por cursor (ID do álbum), com URLs das capas principais.
+     * A primeira página é a mesma incluída no detalhe do artista, que informa o cursor da seguinte.
+     *
+     * @param after cursor opaco da página anterior (vazio para a primeira página)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<AlbumDTO.Summary> findAlbums(Long artistId, String after, int size) {
+        log.debug("Buscando álbuns do artista {} por cursor", artistId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        CursorPage<AlbumDTO.Summary> page = albumPage(artistId, CursorPage.Cursor.decodeId(after), pageSize);
+        if (page.getContent().isEmpty() && !artistRepository.existsById(artistId)) {
+            throw new ResourceNotFoundException("Artista", "id", artistId);
+        }
+        page.setContent(withCoverUrls(page.getContent()));
+        return page;
+    }
+
+    /**
+     * Página dos álbuns do artista com as chaves das capas principais, sem URLs pré-assinadas.
+     */
+    private CursorPage<AlbumDTO.Summary> albumPage(Long artistId, long afterId, int size) {
+        List<Album> albums = albumRepository.findPageByArtistId(artistId, afterId, PageRequest.of(0, size + 1));
+        Map<Long, String> primaryCoverKeys = primaryCoverKeys(albums);
+        return CursorPage.of(albums, size,
+                album -> CursorPage.Cursor.ofId(album.getId()),
+                album -> AlbumDTO.Summary.fromEntity(album, primaryCoverKeys.get(album.getId())));
+    }
+
+    private int albumCount(Long artistId) {
+        return artistRepository.countAlbumsByArtistIdIn(List.of(artistId)).stream()
+                .findFirst().map(IdCountRow::getCount).orElse(0L).intValue();
+    }
+
+    /**
+     * Chave da capa principal por ID de álbum, em uma única consulta para todos os álbuns.
+     */
+    private Map<Long, String> primaryCoverKeys(Collection<Album> albums) {
+        if (albums.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> albumIds = albums.stream().map(Album::getId).collect(Collectors.toSet());
+        return albumCoverRepository.findPrimaryKeysByAlbumIdIn(albumIds).stream()
+                .collect(Collectors.toMap(IdLabelRow::getId, IdLabelRow::getLabel, (first, second) -> first));
+    }
+
+    /**
+     * Cópia dos resumos de álbuns com URLs pré-assinadas atuais das capas principais.
+     * Os resumos do detalhe em cache são compartilhados e nunca são alterados.
+     */
+    private List<AlbumDTO.Summary> withCoverUrls(List<AlbumDTO.Summary> albums) {
+        List<AlbumDTO.Summary> copies = albums.stream()
+                .map(album -> album.toBuilder().build())
+                .collect(Collectors.toList());
+        copies.stream()
+                .filter(album -> album.getPrimaryCoverKey() != null)
+                .forEach(album -> album.setPrimaryCoverUrl(minioService.getPresignedUrl(album.getPrimaryCoverKey())));
+        return copies;
+    }
+
+    /**
+     * Detalhe do artista com a primeira página de álbuns e URLs das capas principais.
+     */
+    private ArtistDTO.Response toDetailWithCoverUrls(Artist artist) {
+        ArtistDTO.Response response = toDetail(artist);
+        response.setAlbums(withCoverUrls(response.getAlbums()));
+        return response;
+    }
+
+    /**
+     * Converte com a primeira página dos álbuns já carregados, na ordem de {@link #findAlbums},
+     * e URLs das capas principais.
+     */
+    private ArtistDTO.Response toResponseWithAlbums(Artist artist, Map<Long, String> primaryCoverKeys) {
+        CursorPage<AlbumDTO.Summary> albums = CursorPage.firstById(artist.getAlbums(), EMBEDDED_PAGE_SIZE,
+                Album::getId, album -> AlbumDTO.Summary.fromEntity(album, primaryCoverKeys.get(album.getId())));
+        ArtistDTO.Response response = ArtistDTO.Response.fromEntityWithAlbums(artist, artist.getAlbums().size(), albums);
+        response.setAlbums(withCoverUrls(response.getAlbums()));
+        return response;
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    /**
+     * Validadores de GET condicional do artista, a partir de uma leitura da versão pela chave primária.
+     * A ETag combina a versão do artista com a alteração mais recente dos seus álbuns e, quando os
+     * álbuns fazem parte da representação, com a janela de validade das URLs das capas.
+     */
+    @Transactional(readOnly = true)
+    public EntityTag.Validators findValidators(Long id, FieldSelection fields) {
+        VersionRow row = artistRepository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", id));
-        return ArtistDTO.Response.fromEntityWithAlbums(artist);
+        long lastModified = EntityTag.epochMillis(row.getUpdatedAt());
+        String eTag = fields.includes("albums")
+                ? EntityTag.of(row.getVersion(), lastModified, minioService.presignedUrlWindow())
+                : EntityTag.of(row.getVersion(), lastModified);
+        return new EntityTag.Validators(eTag, lastModified);
+    }
+
+    /**
+     * Busca vários artistas por ID, na ordem solicitada, informando os IDs não encontrados.
+     * Os álbuns, quando solicitados, são carregados na mesma consulta e cada artista traz apenas
+     * a primeira página deles; apenas a contagem, em uma consulta agregada.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResponse<ArtistDTO.Response> findAllByIds(List<Long> ids, FieldSelection fields) {
+        log.debug("Buscando {} artistas por ID", ids.size());
+        if (ids.isEmpty() || ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new BusinessException("Informe de 1 a " + MAX_IDS_PER_REQUEST + " IDs");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+
+        boolean withAlbums = fields.includes("albums");
+        List<Artist> artists = withAlbums
+                ? artistRepository.findAllWithAlbumsByIdIn(distinctIds)
+                : artistRepository.findAllById(distinctIds);
+
+        Map<Long, Artist> byId = artists.stream()
+                .collect(Collectors.toMap(Artist::getId, Function.identity(), (a, b) -> a));
+        if (withAlbums) {
+            // Capas principais só dos álbuns que entram na primeira página de cada artista
+            Map<Long, String> primaryCoverKeys = primaryCoverKeys(artists.stream()
+                    .flatMap(artist -> artist.getAlbums().stream()
+                            .sorted(Comparator.comparing(Album::getId))
+                            .limit(EMBEDDED_PAGE_SIZE))
+                    .collect(Collectors.toSet()));
+            return MultiGetResponse.of(ids, byId, artist -> toResponseWithAlbums(artist, primaryCoverKeys));
+        }
+        return MultiGetResponse.of(ids, byId, responseMapper(artists, fields));
     }
 
     /**
@@ -75,15 +371,23 @@ public class ArtistService {
                 .imageUrl(request.getImageUrl())
                 .build();
 
-        // Associar álbuns se fornecidos
+        Artist saved = artistRepository.save(artist);
+
+        // Associar álbuns se fornecidos, direto em artist_album
+        Set<Long> albumIds = Set.of();
         if (request.getAlbumIds() != null && !request.getAlbumIds().isEmpty()) {
-            Set<Album> albums = new HashSet<>(albumRepository.findAllById(request.getAlbumIds()));
-            artist.setAlbums(albums);
+            albumIds = new HashSet<>(albumRepository.findExistingIds(request.getAlbumIds()));
+            // O vínculo referencia a linha do artista, que precisa estar gravada
+            artistRepository.flush();
+            linkService.linkAlbums(saved.getId(), albumIds);
         }
 
-        Artist saved = artistRepository.save(artist);
+        albumListingRepository.refresh(albumIds);
+        // O detalhe dos álbuns traz os artistas vinculados
+        detailCache.evictAlbums(albumIds);
+        eventPublisher.publishEvent(CatalogChangedEvent.artistSaved(saved.getId(), saved.getName()));
         log.info("Artista criado com ID: {}", saved.getId());
-        return ArtistDTO.Response.fromEntity(saved);
+        return ArtistDTO.Response.fromEntity(saved, albumIds.size());
     }
 
     /**
@@ -91,10 +395,33 @@ public class ArtistService {
      */
     @Transactional
     public ArtistDTO.Response update(Long id, ArtistDTO.Request request) {
+        return update(id, request, null);
+    }
+
+    /**
+     * Atualiza um artista existente se ainda estiver no estado informado em If-Match.
+     *
+     * @param expected validador (versão e data de alteração) conhecido pelo cliente; null dispensa a verificação
+     * @throws PreconditionFailedException se o artista ou seus vínculos foram alterados desde a ETag informada
+     */
+    @Transactional
+    public ArtistDTO.Response update(Long id, ArtistDTO.Request request, EntityTag.Precondition expected) {
         log.info("Atualizando artista ID: {}", id);
 
         Artist artist = artistRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", id));
+        if (expected != null) {
+            // Mesma leitura do GET: vínculos alterados pelo outro lado mudam a data, não a versão
+            VersionRow current = artistRepository.findVersionById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", id));
+            if (!expected.matches(current.getVersion(), EntityTag.epochMillis(current.getUpdatedAt()))) {
+                throw new PreconditionFailedException("Artista", id, current.getVersion());
+            }
+        }
+
+        // Álbuns vinculados antes da alteração também precisam ter a listagem recalculada
+        Set<Long> currentAlbumIds = new HashSet<>(albumRepository.findIdsByArtistIdIn(List.of(id)));
+        Set<Long> affectedAlbumIds = new HashSet<>(currentAlbumIds);
 
         artist.setName(request.getName());
         artist.setCountry(request.getCountry());
@@ -103,15 +430,25 @@ public class ArtistService {
         artist.setBiography(request.getBiography());
         artist.setImageUrl(request.getImageUrl());
 
-        // Atualizar álbuns se fornecidos
+        // Atualizar álbuns se fornecidos: só a diferença é gravada, sem carregar a coleção
+        Set<Long> albumIds = currentAlbumIds;
         if (request.getAlbumIds() != null) {
-            Set<Album> albums = new HashSet<>(albumRepository.findAllById(request.getAlbumIds()));
-            artist.setAlbums(albums);
+            albumIds = request.getAlbumIds().isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(albumRepository.findExistingIds(request.getAlbumIds()));
+            applyLinkChanges(artist, difference(albumIds, currentAlbumIds), difference(currentAlbumIds, albumIds));
         }
 
         Artist updated = artistRepository.save(artist);
+        // Flush para que a versão retornada (ETag) já seja a incrementada
+        artistRepository.flush();
+        affectedAlbumIds.addAll(albumIds);
+        albumListingRepository.refresh(affectedAlbumIds);
+        detailCache.evictArtist(id);
+        detailCache.evictAlbums(affectedAlbumIds);
+        eventPublisher.publishEvent(CatalogChangedEvent.artistSaved(updated.getId(), updated.getName()));
         log.info("Artista atualizado: {}", updated.getId());
-        return ArtistDTO.Response.fromEntity(updated);
+        return ArtistDTO.Response.fromEntity(updated, albumIds.size());
     }
 
     /**
@@ -125,7 +462,14 @@ public class ArtistService {
             throw new ResourceNotFoundException("Artista", "id", id);
         }
 
+        List<Long> affectedAlbumIds = albumListingRepository.findIdsByArtistId(id);
         artistRepository.deleteById(id);
+        // Os álbuns perdem um artista: a data de alteração deles avança (ETag e Last-Modified do detalhe)
+        linkService.touchAlbums(affectedAlbumIds);
+        albumListingRepository.refresh(affectedAlbumIds);
+        detailCache.evictArtist(id);
+        detailCache.evictAlbums(affectedAlbumIds);
+        eventPublisher.publishEvent(CatalogChangedEvent.artistDeleted(id));
         log.info("Artista removido: {}", id);
     }
 
@@ -138,14 +482,16 @@ public class ArtistService {
 
         Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", artistId));
+        if (!albumRepository.existsById(albumId)) {
+            throw new ResourceNotFoundException("Álbum", "id", albumId);
+        }
 
-        Album album = albumRepository.findById(albumId)
-                .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", albumId));
+        applyLinkChanges(artist, List.of(albumId), List.of());
+        artistRepository.flush();
+        albumListingRepository.refresh(List.of(albumId));
+        evictLinkChange(artist, List.of(albumId));
 
-        artist.addAlbum(album);
-        Artist updated = artistRepository.save(artist);
-        
-        return ArtistDTO.Response.fromEntityWithAlbums(updated);
+        return toDetailWithCoverUrls(artist);
     }
 
     /**
@@ -155,15 +501,97 @@ public class ArtistService {
     public ArtistDTO.Response removeAlbum(Long artistId, Long albumId) {
         log.info("Removendo álbum {} do artista {}", albumId, artistId);
 
-        Artist artist = artistRepository.findByIdWithAlbums(artistId)
+        Artist artist = artistRepository.findById(artistId)
                 .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", artistId));
+        if (!albumRepository.existsById(albumId)) {
+            throw new ResourceNotFoundException("Álbum", "id", albumId);
+        }
 
-        Album album = albumRepository.findById(albumId)
-                .orElseThrow(() -> new ResourceNotFoundException("Álbum", "id", albumId));
+        applyLinkChanges(artist, List.of(), List.of(albumId));
+        artistRepository.flush();
+        albumListingRepository.refresh(List.of(albumId));
+        evictLinkChange(artist, List.of(albumId));
 
-        artist.removeAlbum(album);
-        Artist updated = artistRepository.save(artist);
-        
-        return ArtistDTO.Response.fromEntityWithAlbums(updated);
+        return toDetailWithCoverUrls(artist);
+    }
+
+    /**
+     * Vincula e desvincula vários álbuns de uma vez. Vínculos já existentes (ou já ausentes) são ignorados.
+     * O custo acompanha a quantidade de IDs informados: nem os álbuns do artista nem os informados
+     * são carregados, e a resposta traz apenas a contagem de álbuns.
+     */
+    @Transactional
+    public ArtistDTO.Response updateAlbums(Long artistId, ArtistDTO.AlbumLinks links) {
+        Set<Long> toAdd = links.getAddAlbumIds() != null ? new HashSet<>(links.getAddAlbumIds()) : Set.of();
+        Set<Long> toRemove = links.getRemoveAlbumIds() != null ? new HashSet<>(links.getRemoveAlbumIds()) : Set.of();
+        log.info("Atualizando vínculos do artista {}: {} a incluir, {} a remover", artistId, toAdd.size(), toRemove.size());
+
+        if (toAdd.isEmpty() && toRemove.isEmpty() || toAdd.size() + toRemove.size() > MAX_LINKS_PER_REQUEST) {
+            throw new BusinessException("Informe de 1 a " + MAX_LINKS_PER_REQUEST + " álbuns a incluir ou remover");
+        }
+        if (!Collections.disjoint(toAdd, toRemove)) {
+            throw new BusinessException("Um álbum não pode ser incluído e removido na mesma requisição");
+        }
+
+        Artist artist = artistRepository.findById(artistId)
+                .orElseThrow(() -> new ResourceNotFoundException("Artista", "id", artistId));
+        if (!toAdd.isEmpty()) {
+            Set<Long> missing = difference(toAdd, new HashSet<>(albumRepository.findExistingIds(toAdd)));
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Álbum", "id", missing);
+            }
+        }
+
+        Set<Long> changedAlbumIds = new HashSet<>(toAdd);
+        changedAlbumIds.addAll(toRemove);
+        applyLinkChanges(artist, toAdd, toRemove);
+        artistRepository.flush();
+        albumListingRepository.refresh(changedAlbumIds);
+        evictLinkChange(artist, changedAlbumIds);
+
+        return ArtistDTO.Response.fromEntity(artist, albumCount(artistId));
+    }
+
+    /**
+     * Grava a inclusão e remoção de vínculos direto em artist_album e, se algo mudou,
+     * marca o artista como alterado (versão e data de alteração).
+     */
+    private void applyLinkChanges(Artist artist, Collection<Long> toAdd, Collection<Long> toRemove) {
+        int changed = linkService.linkAlbums(artist.getId(), toAdd) + linkService.unlinkAlbums(artist.getId(), toRemove);
+        if (changed > 0) {
+            artist.markLinksChanged();
+        }
+    }
+
+    private static Set<Long> difference(Set<Long> left, Set<Long> right) {
+        Set<Long> result = new HashSet<>(left);
+        result.removeAll(right);
+        return result;
+    }
+
+    /**
+     * Conversor para os artistas de uma página. A coleção de álbuns nunca é inicializada: se albumCount
+     * for solicitado, as contagens de todos os artistas vêm de uma única consulta agregada.
+     */
+    private Function<Artist, ArtistDTO.Response> responseMapper(List<Artist> artists, FieldSelection fields) {
+        if (!fields.includes("albumCount") || artists.isEmpty()) {
+            return ArtistDTO.Response::fromEntityWithoutAlbums;
+        }
+        Map<Long, Long> albumCounts = artistRepository.countAlbumsByArtistIdIn(
+                        artists.stream().map(Artist::getId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(IdCountRow::getId, IdCountRow::getCount));
+        return artist -> ArtistDTO.Response.fromEntity(artist,
+                albumCounts.getOrDefault(artist.getId(), 0L).intValue());
+    }
+
+    /**
+     * Remove do cache o artista, os álbuns vinculados/desvinculados e os demais álbuns do artista,
+     * cujo detalhe traz a contagem de álbuns dele.
+     */
+    private void evictLinkChange(Artist artist, Collection<Long> changedAlbumIds) {
+        Set<Long> albumIds = new HashSet<>(albumRepository.findIdsByArtistIdIn(List.of(artist.getId())));
+        albumIds.addAll(changedAlbumIds);
+        detailCache.evictArtist(artist.getId());
+        detailCache.evictAlbums(albumIds);
     }
 }
@@ -0,0 +1,317 @@
+package com.artistalbum.service;
+
+import com.artistalbum.event.CacheInvalidationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Barramento de invalidação de caches locais entre instâncias da API, via LISTEN/NOTIFY do PostgreSQL.
+ * <p>
+ * Publicação: os IDs alterados em uma transação são acumulados e enviados com {@code pg_notify}
+ * na mesma transação, antes do commit. O PostgreSQL só entrega a notificação se a transação
+ * for confirmada, e a entrega acontece depois do commit.
+ * <p>
+ * Recepção: cada instância mantém uma conexão dedicada (fora do pool) em LISTEN e republica
+ * as notificações das demais instâncias como {@link CacheInvalidationEvent}. A conexão é verificada
+ * a cada {@code keepalive-interval}; ao reconectar, as notificações do intervalo sem conexão
+ * foram perdidas e todos os caches locais são esvaziados. A primeira conexão, feita na inicialização,
+ * não esvazia nada: os caches ainda estão vazios e o índice de sugestões é carregado no ApplicationReadyEvent.
+ * <p>
+ * Com réplicas de leitura, cada invalidação (local, após o commit, ou recebida) é republicada
+ * localmente uma segunda vez depois de {@code replica-replay-delay}: uma leitura em réplica atrasada
+ * feita logo após a primeira invalidação pode ter devolvido ao cache de segundo nível a versão anterior.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    /** Limite do payload do NOTIFY é 8000 bytes; IDs excedentes seguem em outras notificações. */
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Duration keepaliveInterval;
+    private final Duration reconnectDelay;
+    private final Duration replayDelay;
+
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listener;
+    private volatile ScheduledExecutorService replayer;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${catalog.cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${catalog.cache.invalidation.poll-interval:500ms}") Duration pollInterval,
+                                @Value("${catalog.cache.invalidation.keepalive-interval:10s}") Duration keepaliveInterval,
+                                @Value("${catalog.cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay,
+                                @Value("${datasource.read-replicas.urls:}") String replicaUrls,
+                                @Value("${catalog.cache.invalidation.replica-replay-delay:10s}") Duration replicaReplayDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.keepaliveInterval = keepaliveInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.replayDelay = replicaUrls.isBlank() ? Duration.ZERO : replicaReplayDelay;
+    }
+
+    /**
+     * Notifica as demais instâncias sobre os IDs alterados.
+     * Dentro de uma transação, o envio acontece uma única vez antes do commit, com todos os IDs acumulados;
+     * fora de transação, imediatamente. Com réplicas, agenda também a segunda invalidação local.
+     *
+     * @param ids IDs alterados; vazio invalida toda a região
+     */
+    public void publish(CacheInvalidationEvent.Region region, Collection<Long> ids) {
+        if (!enabled && replayDelay.isZero()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<CacheInvalidationEvent.Region, Set<Long>> changes = Map.of(region, new LinkedHashSet<>(ids));
+            send(changes);
+            scheduleReplay(changes);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<CacheInvalidationEvent.Region, Set<Long>> pending =
+                (Map<CacheInvalidationEvent.Region, Set<Long>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<CacheInvalidationEvent.Region, Set<Long>> created = new EnumMap<>(CacheInvalidationEvent.Region.class);
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(created);
+                }
+
+                @Override
+                public void afterCommit() {
+                    scheduleReplay(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = created;
+        }
+        pending.computeIfAbsent(region, key -> new LinkedHashSet<>()).addAll(ids);
+    }
+
+    private void send(Map<CacheInvalidationEvent.Region, Set<Long>> changes) {
+        if (!enabled) {
+            return;
+        }
+        changes.forEach((region, ids) -> {
+            String prefix = nodeId + "|" + region + "|";
+            StringBuilder payload = new StringBuilder(prefix);
+            for (Long id : ids) {
+                if (payload.length() > MAX_PAYLOAD_LENGTH) {
+                    notify(payload);
+                    payload.setLength(0);
+                    payload.append(prefix);
+                }
+                payload.append(payload.length() > prefix.length() ? "," : "").append(id);
+            }
+            notify(payload);
+        });
+    }
+
+    private void notify(CharSequence payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null,
+                CHANNEL, payload.toString());
+    }
+
+    private void scheduleReplay(Map<CacheInvalidationEvent.Region, Set<Long>> changes) {
+        changes.forEach((region, ids) -> scheduleReplay(CacheInvalidationEvent.of(region, ids)));
+    }
+
+    /**
+     * Republica o evento localmente depois que as réplicas saudáveis já aplicaram a alteração.
+     */
+    private void scheduleReplay(CacheInvalidationEvent event) {
+        ScheduledExecutorService executor = replayer;
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.schedule(() -> eventPublisher.publishEvent(event), replayDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("Segunda invalidação descartada no encerramento: {}", event);
+        }
+    }
+
+    /**
+     * Interpreta uma notificação recebida; retorna null para as enviadas por esta instância.
+     */
+    CacheInvalidationEvent parse(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return null;
+        }
+        Set<Long> ids = parts[2].isEmpty() ? Set.of() : Arrays.stream(parts[2].split(","))
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return CacheInvalidationEvent.of(CacheInvalidationEvent.Region.valueOf(parts[1]), ids);
+    }
+
+    @Override
+    public void start() {
+        if (!replayDelay.isZero()) {
+            replayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-invalidation-replay");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        if (!enabled) {
+            log.info("Invalidação de cache entre instâncias desabilitada");
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(listenConnection);
+        if (listener != null) {
+            listener.interrupt();
+        }
+        if (replayer != null) {
+            replayer.shutdownNow();
+            replayer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running || replayer != null;
+    }
+
+    private void listen() {
+        boolean firstAttempt = true;
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                listenConnection = connection;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                log.info("Ouvindo invalidações de cache no canal {} (instância {})", CHANNEL, nodeId);
+                if (!firstAttempt) {
+                    // Notificações enviadas enquanto a conexão não existia foram perdidas
+                    eventPublisher.publishEvent(CacheInvalidationEvent.flushAll());
+                    scheduleReplay(CacheInvalidationEvent.flushAll());
+                }
+                firstAttempt = false;
+                receive(connection, pgConnection);
+            } catch (SQLException | RuntimeException e) {
+                firstAttempt = false;
+                if (running) {
+                    log.warn("Conexão de invalidação de cache perdida: {}. Reconectando em {} s",
+                            e.getMessage(), reconnectDelay.toSeconds());
+                    sleep(reconnectDelay);
+                }
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void receive(Connection connection, PGConnection pgConnection) throws SQLException {
+        long lastCheck = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    CacheInvalidationEvent event = parse(notification.getParameter());
+                    if (event != null) {
+                        log.debug("Invalidação recebida: {}", event);
+                        eventPublisher.publishEvent(event);
+                        scheduleReplay(event);
+                    }
+                }
+            }
+            if (System.nanoTime() - lastCheck > keepaliveInterval.toNanos()) {
+                // Uma conexão TCP interrompida só é detectada ao enviar algo ao servidor
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    private Connection openListenConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", dataSourceProperties.determineUsername());
+        properties.setProperty("password", dataSourceProperties.determinePassword());
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("socketTimeout", String.valueOf(keepaliveInterval.multipliedBy(3).toSeconds()));
+        properties.setProperty("ApplicationName", "cache-invalidation-" + nodeId);
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // conexão já encerrada
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.event.CacheInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cache em memória dos detalhes de álbuns e artistas já montados (DTO completo), por ID.
+ * <p>
+ * Os DTOs não contêm URLs pré-assinadas, que expiram; elas são obtidas do {@link MinioService} a cada leitura.
+ * As entradas são removidas pelos serviços a cada alteração que afeta a representação,
+ * somente após o commit, para que uma leitura concorrente não recoloque o estado anterior.
+ * Estatísticas (acertos, faltas, remoções) são publicadas no actuator como cache.* com
+ * cache=album.detail e cache=artist.detail.
+ * <p>
+ * As remoções também são enviadas às demais instâncias pelo {@link CacheInvalidationBus}.
+ */
+@Component
+@Slf4j
+public class CatalogDetailCache {
+
+    private final Cache<Long, AlbumDTO.Response> albums;
+    private final Cache<Long, ArtistDTO.Response> artists;
+    private final CacheInvalidationBus invalidationBus;
+
+    public CatalogDetailCache(MeterRegistry meterRegistry,
+                              CacheInvalidationBus invalidationBus,
+                              @Value("${catalog.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${catalog.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.albums = build(maximumSize, expireAfterWrite);
+        this.artists = build(maximumSize, expireAfterWrite);
+        this.invalidationBus = invalidationBus;
+        CaffeineCacheMetrics.monitor(meterRegistry, albums, "album.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, artists, "artist.detail");
+    }
+
+    private static <V> Cache<Long, V> build(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Detalhe do álbum em cache, carregado por {@code loader} na ausência.
+     * Exceções do loader (ex.: não encontrado) são propagadas e nada é armazenado.
+     */
+    public AlbumDTO.Response album(Long id, Function<Long, AlbumDTO.Response> loader) {
+        return albums.get(id, loader);
+    }
+
+    /**
+     * Detalhe do álbum se já estiver em cache, sem carregar.
+     */
+    public AlbumDTO.Response cachedAlbum(Long id) {
+        return albums.getIfPresent(id);
+    }
+
+    public ArtistDTO.Response artist(Long id, Function<Long, ArtistDTO.Response> loader) {
+        return artists.get(id, loader);
+    }
+
+    public ArtistDTO.Response cachedArtist(Long id) {
+        return artists.getIfPresent(id);
+    }
+
+    public void evictAlbum(Long id) {
+        evictAlbums(List.of(id));
+    }
+
+    public void evictArtist(Long id) {
+        evictArtists(List.of(id));
+    }
+
+    /**
+     * Remove os álbuns do cache após o commit da transação corrente (ou imediatamente, sem transação).
+     */
+    public void evictAlbums(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            List<Long> keys = List.copyOf(ids);
+            invalidationBus.publish(CacheInvalidationEvent.Region.ALBUM, keys);
+            afterCommit(() -> albums.invalidateAll(keys));
+        }
+    }
+
+    public void evictArtists(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            List<Long> keys = List.copyOf(ids);
+            invalidationBus.publish(CacheInvalidationEvent.Region.ARTIST, keys);
+            afterCommit(() -> artists.invalidateAll(keys));
+        }
+    }
+
+    /**
+     * Aplica a invalidação recebida de outra instância (já confirmada no banco).
+     */
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidationEvent event) {
+        if (event.isFullFlush()) {
+            albums.invalidateAll();
+            artists.invalidateAll();
+        } else if (event.getRegion() == CacheInvalidationEvent.Region.ALBUM) {
+            albums.invalidateAll(event.getIds());
+        } else if (event.getRegion() == CacheInvalidationEvent.Region.ARTIST) {
+            artists.invalidateAll(event.getIds());
+        }
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
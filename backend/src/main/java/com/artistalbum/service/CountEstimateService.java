@@ -0,0 +1,79 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.repository.AlbumListingRepository;
+import com.artistalbum.repository.AlbumListingSpecifications;
+import com.artistalbum.repository.ArtistRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Totais aproximados para listagens paginadas, evitando um COUNT por requisição.
+ * <p>
+ * Sem filtros, usa as estatísticas do PostgreSQL (pg_class.reltuples), atualizadas pelo autovacuum.
+ * Com filtros, mantém uma contagem exata em cache por combinação de filtros, recalculada em segundo
+ * plano a cada minuto enquanto continuar sendo usada.
+ */
+@Service
+@Slf4j
+public class CountEstimateService {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+    private static final Duration EXPIRE_AFTER = Duration.ofMinutes(10);
+    private static final long MAX_CACHED_FILTERS = 1_000;
+
+    private final AlbumListingRepository albumListingRepository;
+    private final ArtistRepository artistRepository;
+
+    private final LoadingCache<AlbumDTO.Filter, Long> albumCounts;
+    private final LoadingCache<String, Long> artistCounts;
+
+    public CountEstimateService(AlbumListingRepository albumListingRepository, ArtistRepository artistRepository) {
+        this.albumListingRepository = albumListingRepository;
+        this.artistRepository = artistRepository;
+        this.albumCounts = Caffeine.newBuilder()
+                .refreshAfterWrite(REFRESH_AFTER)
+                .expireAfterAccess(EXPIRE_AFTER)
+                .maximumSize(MAX_CACHED_FILTERS)
+                .build(filter -> albumListingRepository.count(AlbumListingSpecifications.matching(filter)));
+        this.artistCounts = Caffeine.newBuilder()
+                .refreshAfterWrite(REFRESH_AFTER)
+                .expireAfterAccess(EXPIRE_AFTER)
+                .maximumSize(MAX_CACHED_FILTERS)
+                .build(name -> name.isEmpty()
+                        ? artistRepository.count()
+                        : artistRepository.countByNameContaining(name));
+    }
+
+    /**
+     * Total aproximado de álbuns para os filtros informados.
+     */
+    public long estimateAlbums(AlbumDTO.Filter filter) {
+        if (new AlbumDTO.Filter().equals(filter)) {
+            long estimate = albumListingRepository.estimateRowCount();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        }
+        return albumCounts.get(filter);
+    }
+
+    /**
+     * Total aproximado de artistas, opcionalmente filtrados por nome.
+     */
+    public long estimateArtists(String name) {
+        String key = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) {
+            long estimate = artistRepository.estimateRowCount();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        }
+        return artistCounts.get(key);
+    }
+}
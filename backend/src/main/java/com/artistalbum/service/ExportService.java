@@ -0,0 +1,79 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.ExportDTO;
+import com.artistalbum.repository.AlbumListingRepository;
+import com.artistalbum.repository.ArtistRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Exportação do catálogo completo em NDJSON.
+ * Lê o banco uma única vez com cursor do servidor e limpa o contexto de persistência a cada lote,
+ * mantendo o uso de memória constante independente do tamanho do catálogo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private final AlbumListingRepository albumListingRepository;
+    private final ArtistRepository artistRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Escreve todos os álbuns, um objeto JSON por linha.
+     *
+     * @return quantidade de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportAlbums(OutputStream out) {
+        try (Stream<ExportDTO.AlbumRow> rows = albumListingRepository.streamAll().map(ExportDTO.AlbumRow::fromEntity)) {
+            return write(rows, out, "álbuns");
+        }
+    }
+
+    /**
+     * Escreve todos os artistas, um objeto JSON por linha.
+     *
+     * @return quantidade de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportArtists(OutputStream out) {
+        try (Stream<ExportDTO.ArtistRow> rows = artistRepository.streamAll().map(ExportDTO.ArtistRow::fromEntity)) {
+            return write(rows, out, "artistas");
+        }
+    }
+
+    private <T> long write(Stream<T> rows, OutputStream out, String description) {
+        ObjectWriter writer = objectMapper.writer();
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try {
+            for (T row : (Iterable<T>) rows::iterator) {
+                out.write(writer.writeValueAsBytes(row));
+                out.write('\n');
+                if (++count % AlbumListingRepository.EXPORT_FETCH_SIZE == 0) {
+                    entityManager.clear();
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exportação de {} concluída: {} linhas em {} ms", description, count,
+                System.currentTimeMillis() - start);
+        return count;
+    }
+}
@@ -0,0 +1,557 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.ImportDTO;
+import com.artistalbum.event.CatalogChangedEvent;
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.repository.AlbumListingRepository;
+import com.artistalbum.repository.CatalogBulkRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa do catálogo a partir de NDJSON ou CSV (um registro por linha).
+ * <p>
+ * As linhas são agrupadas em lotes de {@link #CHUNK_SIZE} registros, cada lote em sua própria transação:
+ * artistas, depois álbuns e por fim vínculos, cada etapa com um único comando SQL para o lote inteiro.
+ * Artistas já existentes (mesmo nome, sem diferenciar maiúsculas) não são duplicados; álbuns, quando
+ * têm o mesmo título e o mesmo conjunto de artistas. Registros "link" citam o álbum pelo título, que
+ * precisa ser único, ou pelo título e pelos artistas do álbum (albumArtists).
+ * O progresso e os erros de cada linha são reportados ao listener durante a importação.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportService {
+
+    static final int CHUNK_SIZE = 5000;
+
+    private static final String TYPE_ARTIST = "artist";
+    private static final String TYPE_ALBUM = "album";
+    private static final String TYPE_LINK = "link";
+    private static final Set<String> LIST_COLUMNS = Set.of("artists", "albumArtists");
+
+    private final CatalogBulkRepository catalogBulkRepository;
+    private final AlbumListingRepository albumListingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final CatalogDetailCache detailCache;
+    private final AlbumService albumService;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    /**
+     * Importa o conteúdo do stream.
+     *
+     * @param listener recebe um evento "progress" por lote, um "error" por linha rejeitada e o "done" final
+     * @return resumo final da importação (o mesmo enviado como "done")
+     */
+    public ImportDTO.Progress importCatalog(InputStream input, ImportDTO.Format format,
+                                            Consumer<ImportDTO.Progress> listener) {
+        ImportRun run = new ImportRun(listener);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            LineParser parser = format == ImportDTO.Format.CSV
+                    ? csvParser(reader.readLine())
+                    : jsonParser();
+            long lineNumber = format == ImportDTO.Format.CSV ? 1 : 0;
+            List<ImportDTO.Record> chunk = new ArrayList<>(CHUNK_SIZE);
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                run.linesRead++;
+                try {
+                    ImportDTO.Record record = parser.parse(line);
+                    record.setLine(lineNumber);
+                    validate(record);
+                    chunk.add(record);
+                } catch (BusinessException | JsonProcessingException | IllegalArgumentException e) {
+                    run.error(lineNumber, e.getMessage());
+                }
+                if (chunk.size() >= CHUNK_SIZE) {
+                    importChunk(chunk, run, transaction);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, run, transaction);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ImportDTO.Progress done = run.snapshot("done");
+        log.info("Importação concluída: {} linhas, {} artistas e {} álbuns criados, {} vínculos, {} erros em {} ms",
+                done.getLinesRead(), done.getArtistsCreated(), done.getAlbumsCreated(), done.getLinksCreated(),
+                done.getErrors(), done.getElapsedMs());
+        listener.accept(done);
+        return done;
+    }
+
+    private void importChunk(List<ImportDTO.Record> records, ImportRun run, TransactionTemplate transaction) {
+        try {
+            ChunkResult result = transaction.execute(status -> writeChunk(records, run));
+            run.apply(result);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar lote de importação (linhas {} a {}): {}",
+                    records.get(0).getLine(), records.get(records.size() - 1).getLine(), e.getMessage());
+            run.error(records.get(0).getLine(), String.format("Lote das linhas %d a %d não gravado: %s",
+                    records.get(0).getLine(), records.get(records.size() - 1).getLine(),
+                    e.getMostSpecificCause().getMessage()));
+        }
+        run.listener.accept(run.snapshot("progress"));
+    }
+
+    /**
+     * Grava um lote. Os IDs resolvidos ficam no resultado e só passam ao cache da importação
+     * depois do commit, para que um lote revertido não deixe IDs inexistentes no cache.
+     */
+    private ChunkResult writeChunk(List<ImportDTO.Record> records, ImportRun run) {
+        ChunkResult result = new ChunkResult();
+
+        List<ImportDTO.Record> artists = ofType(records, TYPE_ARTIST);
+        result.artistsCreated = saveMissing(artists, artist -> key(artist.getName()), ImportDTO.Record::getName,
+                run.artistIds, result.artistIds, this::findArtistIds,
+                catalogBulkRepository::insertArtists, CatalogChangedEvent::artistSaved);
+        result.artistsSkipped = artists.size() - result.artistsCreated;
+
+        List<ImportDTO.Record> albums = ofType(records, TYPE_ALBUM);
+        result.albumsCreated = saveMissing(albums, ImportService::albumKey, ImportDTO.Record::getTitle,
+                run.albumIds, result.albumIds, this::findAlbumIds,
+                catalogBulkRepository::insertAlbums, CatalogChangedEvent::albumSaved);
+        result.albumsSkipped = albums.size() - result.albumsCreated;
+
+        Set<Long> touchedAlbums = new LinkedHashSet<>(result.albumIds.values());
+        Set<Long> linkedArtists = new LinkedHashSet<>();
+        result.linksCreated = saveLinks(records, run, result, touchedAlbums, linkedArtists);
+
+        if (result.linksCreated > 0) {
+            // Vínculos gravados por SQL: a data de alteração (Last-Modified/ETag do detalhe) avança dos dois lados
+            catalogBulkRepository.touchArtists(linkedArtists);
+            catalogBulkRepository.touchAlbums(touchedAlbums);
+            // Só os artistas e álbuns deste lote saem do cache de segundo nível, agora e após o commit
+            secondLevelCacheEvictor.evictLinkCollections(linkedArtists, touchedAlbums);
+        }
+        List<Long> albumIds = new ArrayList<>(touchedAlbums);
+        for (int from = 0; from < albumIds.size(); from += CHUNK_SIZE) {
+            albumListingRepository.refresh(albumIds.subList(from, Math.min(from + CHUNK_SIZE, albumIds.size())));
+        }
+        detailCache.evictAlbums(touchedAlbums);
+        // Todos os álbuns dos artistas vinculados, cujo detalhe traz a contagem de álbuns do artista
+        albumService.evictArtistsWithAlbums(linkedArtists);
+        return result;
+    }
+
+    /**
+     * Insere os registros cuja chave (nome do artista ou {@link CatalogBulkRepository.AlbumKey})
+     * ainda não existe no cache da importação, no lote ou no banco. Chaves com mais de um registro no
+     * banco não são inseridas nem resolvidas: os vínculos que as citam são rejeitados como ambíguos.
+     *
+     * @return quantidade de registros inseridos
+     */
+    private <K> int saveMissing(List<ImportDTO.Record> records,
+                                Function<ImportDTO.Record, K> keyOf,
+                                Function<ImportDTO.Record, String> label,
+                                Map<K, Long> known,
+                                Map<K, Long> resolved,
+                                Function<Collection<K>, Map<K, List<Long>>> finder,
+                                Function<List<ImportDTO.Record>, Map<K, Long>> inserter,
+                                BiFunction<Long, String, CatalogChangedEvent> event) {
+        Map<K, ImportDTO.Record> missing = new LinkedHashMap<>();
+        for (ImportDTO.Record record : records) {
+            K key = keyOf.apply(record);
+            if (!known.containsKey(key)) {
+                missing.putIfAbsent(key, record);
+            }
+        }
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        Map<K, List<Long>> existing = finder.apply(missing.keySet());
+        existing.forEach((key, ids) -> {
+            if (missing.remove(key) != null && ids.size() == 1) {
+                resolved.put(key, ids.get(0));
+            }
+        });
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        Map<K, Long> created = inserter.apply(new ArrayList<>(missing.values()));
+        resolved.putAll(created);
+        created.forEach((key, id) -> eventPublisher.publishEvent(event.apply(id, label.apply(missing.get(key)))));
+        return created.size();
+    }
+
+    /**
+     * Grava os vínculos declarados em registros "link" e na lista de artistas dos registros "album".
+     * Artistas e álbuns ausentes do arquivo são procurados no banco; os não encontrados, álbuns citados
+     * só por um título que pertence a mais de um álbum e álbuns duplicados no banco (mesmo título e
+     * artistas) geram erro na linha.
+     */
+    private int saveLinks(List<ImportDTO.Record> records, ImportRun run, ChunkResult result,
+                          Set<Long> touchedAlbums, Set<Long> linkedArtists) {
+        List<LinkRef> links = new ArrayList<>();
+        Set<String> titlesOnly = new LinkedHashSet<>();
+        for (ImportDTO.Record record : records) {
+            if (TYPE_LINK.equals(record.getType())) {
+                boolean byTitle = record.getAlbumArtists() == null || record.getAlbumArtists().isEmpty();
+                links.add(new LinkRef(key(record.getArtist()),
+                        byTitle ? null : CatalogBulkRepository.AlbumKey.of(record.getAlbum(), record.getAlbumArtists()),
+                        record.getAlbum(), record.getLine()));
+                if (byTitle) {
+                    titlesOnly.add(key(record.getAlbum()));
+                }
+            } else if (TYPE_ALBUM.equals(record.getType()) && record.getArtists() != null) {
+                for (String artist : record.getArtists()) {
+                    links.add(new LinkRef(key(artist), albumKey(record), record.getTitle(), record.getLine()));
+                }
+            }
+        }
+        if (links.isEmpty()) {
+            return 0;
+        }
+
+        resolveMissing(links, LinkRef::artist, run.artistIds, result.artistIds, this::findArtistIds);
+        Map<CatalogBulkRepository.AlbumKey, List<Long>> duplicatedAlbums =
+                resolveMissing(links, LinkRef::album, run.albumIds, result.albumIds, this::findAlbumIds);
+        // Títulos sem artistas: sempre consultados no banco, que já contém os álbuns deste lote
+        Map<String, List<Long>> idsByTitle = new HashMap<>();
+        if (!titlesOnly.isEmpty()) {
+            catalogBulkRepository.findAlbumIdsByTitles(titlesOnly).forEach((key, ids) ->
+                    idsByTitle.computeIfAbsent(key.title(), k -> new ArrayList<>()).addAll(ids));
+        }
+
+        Map<List<Long>, LinkRef> pairs = new LinkedHashMap<>();
+        for (LinkRef link : links) {
+            Long artistId = lookup(link.artist(), run.artistIds, result.artistIds);
+            List<Long> candidates = link.album() != null
+                    ? Optional.ofNullable(lookup(link.album(), run.albumIds, result.albumIds)).map(List::of)
+                            .orElse(duplicatedAlbums.getOrDefault(link.album(), List.of()))
+                    : idsByTitle.getOrDefault(key(link.title()), List.of());
+            if (artistId == null) {
+                result.errors.add(new LineError(link.line(), "Artista não encontrado: " + link.artist()));
+            } else if (candidates.isEmpty()) {
+                result.errors.add(new LineError(link.line(), "Álbum não encontrado: " + link.title()));
+            } else if (candidates.size() > 1 && link.album() != null) {
+                result.errors.add(new LineError(link.line(), String.format(
+                        "Álbum duplicado: %s (%d álbuns com o mesmo título e artistas)", link.title(), candidates.size())));
+            } else if (candidates.size() > 1) {
+                result.errors.add(new LineError(link.line(), String.format(
+                        "Título de álbum ambíguo: %s (%d álbuns); informe albumArtists", link.title(), candidates.size())));
+            } else {
+                pairs.putIfAbsent(List.of(artistId, candidates.get(0)), link);
+            }
+        }
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+
+        Long[] artistIds = new Long[pairs.size()];
+        Long[] albumIds = new Long[pairs.size()];
+        int i = 0;
+        for (List<Long> pair : pairs.keySet()) {
+            artistIds[i] = pair.get(0);
+            albumIds[i] = pair.get(1);
+            touchedAlbums.add(pair.get(1));
+            linkedArtists.add(pair.get(0));
+            i++;
+        }
+        return catalogBulkRepository.insertLinks(artistIds, albumIds);
+    }
+
+    /**
+     * Resolve no banco as chaves citadas nos vínculos e ainda desconhecidas.
+     *
+     * @return chaves com mais de um registro no banco, com os IDs encontrados
+     */
+    private <K> Map<K, List<Long>> resolveMissing(List<LinkRef> links, Function<LinkRef, K> key,
+                                                  Map<K, Long> known, Map<K, Long> resolved,
+                                                  Function<Collection<K>, Map<K, List<Long>>> finder) {
+        Set<K> missing = new LinkedHashSet<>();
+        for (LinkRef link : links) {
+            K k = key.apply(link);
+            if (k != null && lookup(k, known, resolved) == null) {
+                missing.add(k);
+            }
+        }
+        Map<K, List<Long>> duplicated = new HashMap<>();
+        if (!missing.isEmpty()) {
+            finder.apply(missing).forEach((k, ids) -> {
+                if (!missing.contains(k)) {
+                    return;
+                }
+                if (ids.size() == 1) {
+                    resolved.put(k, ids.get(0));
+                } else {
+                    duplicated.put(k, ids);
+                }
+            });
+        }
+        return duplicated;
+    }
+
+    private Map<String, List<Long>> findArtistIds(Collection<String> names) {
+        Map<String, List<Long>> ids = new HashMap<>();
+        catalogBulkRepository.findArtistIdsByNames(names).forEach((name, id) -> ids.put(name, List.of(id)));
+        return ids;
+    }
+
+    /**
+     * Álbuns existentes com os mesmos títulos das chaves informadas.
+     */
+    private Map<CatalogBulkRepository.AlbumKey, List<Long>> findAlbumIds(Collection<CatalogBulkRepository.AlbumKey> keys) {
+        return catalogBulkRepository.findAlbumIdsByTitles(
+                keys.stream().map(CatalogBulkRepository.AlbumKey::title).collect(Collectors.toSet()));
+    }
+
+    private static <K> Long lookup(K key, Map<K, Long> known, Map<K, Long> resolved) {
+        Long id = known.get(key);
+        return id != null ? id : resolved.get(key);
+    }
+
+    private static List<ImportDTO.Record> ofType(List<ImportDTO.Record> records, String type) {
+        return records.stream().filter(r -> type.equals(r.getType())).toList();
+    }
+
+    private static String key(String label) {
+        return label.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static CatalogBulkRepository.AlbumKey albumKey(ImportDTO.Record album) {
+        return CatalogBulkRepository.AlbumKey.of(album.getTitle(), album.getArtists());
+    }
+
+    private void validate(ImportDTO.Record record) {
+        if (record.getType() == null) {
+            throw new BusinessException("Campo type é obrigatório");
+        }
+        record.setType(record.getType().trim().toLowerCase(Locale.ROOT));
+        switch (record.getType()) {
+            case TYPE_ARTIST -> {
+                record.setName(required(record.getName(), "name", 200));
+                maxLength(record.getCountry(), "country", 100);
+                maxLength(record.getGenre(), "genre", 50);
+                maxLength(record.getImageUrl(), "imageUrl", 500);
+            }
+            case TYPE_ALBUM -> {
+                record.setTitle(required(record.getTitle(), "title", 200));
+                maxLength(record.getGenre(), "genre", 50);
+                maxLength(record.getRecordLabel(), "recordLabel", 100);
+                if (record.getArtists() != null) {
+                    record.setArtists(record.getArtists().stream()
+                            .filter(name -> name != null && !name.isBlank())
+                            .toList());
+                }
+            }
+            case TYPE_LINK -> {
+                required(record.getArtist(), "artist", 200);
+                record.setAlbum(required(record.getAlbum(), "album", 200));
+                if (record.getAlbumArtists() != null) {
+                    record.setAlbumArtists(record.getAlbumArtists().stream()
+                            .filter(name -> name != null && !name.isBlank())
+                            .toList());
+                }
+            }
+            default -> throw new BusinessException("Tipo de registro inválido: " + record.getType());
+        }
+    }
+
+    private static String required(String value, String field, int maxLength) {
+        if (value == null || value.isBlank()) {
+            throw new BusinessException("Campo " + field + " é obrigatório");
+        }
+        maxLength(value.trim(), field, maxLength);
+        return value.trim();
+    }
+
+    private static void maxLength(String value, String field, int maxLength) {
+        if (value != null && value.length() > maxLength) {
+            throw new BusinessException("Campo " + field + " deve ter no máximo " + maxLength + " caracteres");
+        }
+    }
+
+    private LineParser jsonParser() {
+        ObjectReader reader = objectMapper.readerFor(ImportDTO.Record.class);
+        return reader::readValue;
+    }
+
+    /**
+     * Parser de CSV a partir da linha de cabeçalho (nomes dos campos de {@link ImportDTO.Record}).
+     * Aceita campos entre aspas duplas com vírgulas e aspas escapadas (""), sem quebras de linha.
+     * As colunas artists e albumArtists separam os nomes com "|".
+     */
+    private LineParser csvParser(String header) {
+        if (header == null) {
+            return line -> {
+                throw new BusinessException("Cabeçalho CSV ausente");
+            };
+        }
+        List<String> columns = splitCsv(header).stream().map(String::trim).toList();
+        return line -> {
+            List<String> values = splitCsv(line);
+            Map<String, Object> fields = new HashMap<>();
+            for (int i = 0; i < columns.size() && i < values.size(); i++) {
+                String value = values.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                fields.put(columns.get(i), LIST_COLUMNS.contains(columns.get(i))
+                        ? Arrays.asList(value.split("\\|"))
+                        : value);
+            }
+            return objectMapper.convertValue(fields, ImportDTO.Record.class);
+        };
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new BusinessException("Aspas não fechadas na linha CSV");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface LineParser {
+        ImportDTO.Record parse(String line) throws JsonProcessingException;
+    }
+
+    /**
+     * Vínculo a gravar. {@code album} é nulo quando o registro cita o álbum apenas pelo título.
+     */
+    private record LinkRef(String artist, CatalogBulkRepository.AlbumKey album, String title, long line) {
+    }
+
+    private record LineError(long line, String message) {
+    }
+
+    /**
+     * Resultado de um lote gravado com sucesso.
+     */
+    private static class ChunkResult {
+        final Map<String, Long> artistIds = new HashMap<>();
+        final Map<CatalogBulkRepository.AlbumKey, Long> albumIds = new HashMap<>();
+        final List<LineError> errors = new ArrayList<>();
+        int artistsCreated;
+        int artistsSkipped;
+        int albumsCreated;
+        int albumsSkipped;
+        int linksCreated;
+    }
+
+    /**
+     * Estado de uma importação: contadores e cache de nome/chave de álbum para ID entre lotes.
+     */
+    private static class ImportRun {
+        final Consumer<ImportDTO.Progress> listener;
+        final long start = System.currentTimeMillis();
+        final Map<String, Long> artistIds = new HashMap<>();
+        final Map<CatalogBulkRepository.AlbumKey, Long> albumIds = new HashMap<>();
+        long linesRead;
+        long artistsCreated;
+        long artistsSkipped;
+        long albumsCreated;
+        long albumsSkipped;
+        long linksCreated;
+        long errors;
+
+        ImportRun(Consumer<ImportDTO.Progress> listener) {
+            this.listener = listener;
+        }
+
+        void apply(ChunkResult result) {
+            artistIds.putAll(result.artistIds);
+            albumIds.putAll(result.albumIds);
+            artistsCreated += result.artistsCreated;
+            artistsSkipped += result.artistsSkipped;
+            albumsCreated += result.albumsCreated;
+            albumsSkipped += result.albumsSkipped;
+            linksCreated += result.linksCreated;
+            result.errors.forEach(error -> error(error.line(), error.message()));
+        }
+
+        void error(long line, String message) {
+            errors++;
+            listener.accept(ImportDTO.Progress.builder()
+                    .event("error")
+                    .line(line)
+                    .message(message)
+                    .build());
+        }
+
+        ImportDTO.Progress snapshot(String event) {
+            long elapsed = System.currentTimeMillis() - start;
+            return ImportDTO.Progress.builder()
+                    .event(event)
+                    .linesRead(linesRead)
+                    .artistsCreated(artistsCreated)
+                    .artistsSkipped(artistsSkipped)
+                    .albumsCreated(albumsCreated)
+                    .albumsSkipped(albumsSkipped)
+                    .linksCreated(linksCreated)
+                    .errors(errors)
+                    .elapsedMs(elapsed)
+                    .rowsPerSecond(elapsed > 0 ? linesRead * 1000 / elapsed : linesRead)
+                    .build();
+        }
+    }
+}
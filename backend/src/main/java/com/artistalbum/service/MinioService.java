@@ -1,33 +1,61 @@
 package com.artistalbum.service;
 
 import com.artistalbum.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.minio.*;
 import io.minio.http.Method;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Serviço para gerenciamento de arquivos no MinIO.
+ * <p>
+ * URLs pré-assinadas ficam em cache por chave de objeto dentro de cada {@link #presignedUrlWindow() janela}
+ * (metade da validade). Estatísticas do cache são publicadas no actuator como cache.* com
+ * cache=presigned.url, e o custo de cada assinatura no timer minio.presign: os acertos vezes
+ * o tempo médio de assinatura estimam o trabalho poupado.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MinioService {
 
     private final MinioClient minioClient;
-
-    @Value("${minio.bucket-name}")
-    private String bucketName;
-
-    @Value("${minio.presigned-url-expiration}")
-    private int presignedUrlExpiration;
+    private final String bucketName;
+    private final int presignedUrlExpiration;
+    private final Cache<PresignedUrlKey, String> presignedUrls;
+    private final Timer signingTimer;
+
+    public MinioService(MinioClient minioClient,
+                        MeterRegistry meterRegistry,
+                        @Value("${minio.bucket-name}") String bucketName,
+                        @Value("${minio.presigned-url-expiration}") int presignedUrlExpiration,
+                        @Value("${minio.presigned-url-cache.maximum-size:10000}") long cacheMaximumSize) {
+        this.minioClient = minioClient;
+        this.bucketName = bucketName;
+        this.presignedUrlExpiration = presignedUrlExpiration;
+        // Uma entrada só é lida na janela em que foi gerada; expirar após uma janela apenas libera a memória
+        this.presignedUrls = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrls, "presigned.url");
+        this.signingTimer = Timer.builder("minio.presign")
+                .description("Geração (assinatura) de URLs pré-assinadas")
+                .register(meterRegistry);
+    }
 
     /**
      * Faz upload de um arquivo para o MinIO.
@@ -65,11 +93,19 @@ public class MinioService {
     /**
      * Gera URL pré-assinada para acesso ao arquivo.
      * Expira em 30 minutos conforme requisito do edital.
-     * 
+     * <p>
+     * A URL é reaproveitada enquanto durar a janela em que foi gerada, então quem a recebe ainda tem
+     * pelo menos metade da validade, a mesma garantia das ETags que variam por janela.
+     *
      * @param objectKey Chave do objeto no MinIO
      * @return URL pré-assinada
      */
     public String getPresignedUrl(String objectKey) {
+        return presignedUrls.get(new PresignedUrlKey(objectKey, presignedUrlWindow()), key -> sign(key.objectKey()));
+    }
+
+    private String sign(String objectKey) {
+        Timer.Sample sample = Timer.start();
         try {
             log.debug("Gerando presigned URL para: {}", objectKey);
 
@@ -86,9 +122,24 @@ public class MinioService {
         } catch (Exception e) {
             log.error("Erro ao gerar presigned URL: {}", e.getMessage());
             throw new BusinessException("Erro ao gerar URL de acesso: " + e.getMessage());
+        } finally {
+            sample.stop(signingTimer);
         }
     }
 
+    /**
+     * Janela de tempo atual com metade da validade das URLs pré-assinadas.
+     * Uma representação validada (304) na mesma janela em que foi gerada ainda tem
+     * pelo menos metade da validade das suas URLs.
+     */
+    public long presignedUrlWindow() {
+        return Instant.now().getEpochSecond() / windowSeconds();
+    }
+
+    private long windowSeconds() {
+        return Math.max(1, presignedUrlExpiration / 2);
+    }
+
     /**
      * Remove um arquivo do MinIO.
      * 
@@ -103,6 +154,7 @@ public class MinioService {
                     .object(objectKey)
                     .build());
 
+            presignedUrls.invalidate(new PresignedUrlKey(objectKey, presignedUrlWindow()));
             log.info("Arquivo removido com sucesso: {}", objectKey);
 
         } catch (Exception e) {
@@ -129,6 +181,9 @@ public class MinioService {
         }
     }
 
+    private record PresignedUrlKey(String objectKey, long window) {
+    }
+
     private String getFileExtension(String filename) {
         if (filename == null || !filename.contains(".")) {
             return "";
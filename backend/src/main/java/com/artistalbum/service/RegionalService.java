@@ -2,9 +2,12 @@ package com.artistalbum.service;
 
 import com.artistalbum.dto.RegionalDTO;
 import com.artistalbum.entity.Regional;
+import com.artistalbum.event.CacheInvalidationEvent;
 import com.artistalbum.repository.RegionalRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
@@ -12,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
@@ -31,6 +36,8 @@ public class RegionalService {
 
     private final RegionalRepository regionalRepository;
     private final RestTemplate restTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationBus invalidationBus;
 
     @Value("${regionais.api-url}")
     private String regionaisApiUrl;
@@ -143,6 +150,7 @@ public class RegionalService {
 
             log.info("Sincronização concluída: {} inseridas, {} inativadas, {} atualizadas",
                     inserted, inactivated, updated);
+            evictCacheAfterSync();
 
             return RegionalDTO.SyncResult.builder()
                     .inserted(inserted)
@@ -159,6 +167,31 @@ public class RegionalService {
         }
     }
 
+    /**
+     * Remove regionais e a lista de ativas do cache de segundo nível após o commit da sincronização,
+     * cobrindo também alterações feitas na tabela fora do Hibernate. As demais instâncias são avisadas
+     * pelo barramento de invalidação.
+     */
+    private void evictCacheAfterSync() {
+        invalidationBus.publish(CacheInvalidationEvent.Region.REGIONAL, Set.of());
+        Runnable eviction = () -> {
+            entityManagerFactory.getCache().evict(Regional.class);
+            entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                    .evictQueryRegion(RegionalRepository.ACTIVE_QUERY_REGION);
+            log.debug("Cache de regionais invalidado após sincronização");
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
     /**
      * Busca regionais do endpoint externo.
      */
@@ -0,0 +1,66 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.SearchDTO;
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.repository.SearchRepository;
+import com.artistalbum.repository.projection.SearchHitRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Serviço de busca textual ranqueada sobre álbuns e artistas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private final SearchRepository searchRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String KEY_SEPARATOR = ";";
+
+    /**
+     * Busca álbuns e artistas ordenados por relevância, paginando por cursor.
+     *
+     * @param query termos de busca (sintaxe websearch: aspas, OR, -termo)
+     * @param after cursor opaco da página anterior (vazio para a primeira página)
+     * @param size quantidade de itens por página
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<SearchDTO.Hit> search(String query, String after, int size) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessException("Informe o termo de busca");
+        }
+        log.debug("Buscando por: {}", query);
+
+        CursorPage.Cursor cursor = CursorPage.Cursor.decode(after);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<SearchHitRow> rows;
+        if (cursor == null) {
+            rows = searchRepository.searchFirstPage(query, pageSize + 1);
+        } else {
+            String[] key = cursor.getKey().split(KEY_SEPARATOR, 2);
+            rows = searchRepository.searchPageAfter(query, parseRank(key[0]),
+                    key.length > 1 ? key[1] : "", cursor.getId(), pageSize + 1);
+        }
+
+        return CursorPage.of(rows, pageSize,
+                row -> new CursorPage.Cursor(row.getRank() + KEY_SEPARATOR + row.getType(), row.getId()),
+                SearchDTO.Hit::fromRow);
+    }
+
+    private float parseRank(String value) {
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+}
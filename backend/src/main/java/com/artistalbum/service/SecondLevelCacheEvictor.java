@@ -0,0 +1,101 @@
+package com.artistalbum.service;
+
+import com.artistalbum.entity.Album;
+import com.artistalbum.entity.AlbumCover;
+import com.artistalbum.entity.Artist;
+import com.artistalbum.entity.Regional;
+import com.artistalbum.event.CacheInvalidationEvent;
+import com.artistalbum.repository.RegionalRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Remove do cache de segundo nível do Hibernate desta instância as entidades alteradas em outras instâncias.
+ * O Hibernate só mantém coerentes as alterações feitas pela própria instância, e apenas as que passam
+ * por ele: vínculos gravados por SQL direto são descartados por {@link #evictLinkCollections}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheEvictor {
+
+    private static final String ALBUM_ARTISTS = Album.class.getName() + ".artists";
+    private static final String ALBUM_COVERS = Album.class.getName() + ".covers";
+    private static final String ARTIST_ALBUMS = Artist.class.getName() + ".albums";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Descarta as coleções de vínculos dos artistas e álbuns informados, gravados por SQL direto em artist_album,
+     * e as próprias entidades, cuja data de alteração também pode ter sido avançada por SQL.
+     * Descarta já, para que a própria transação leia os vínculos do banco, e de novo após o commit,
+     * caso outra transação tenha recolocado no cache os vínculos anteriores nesse intervalo.
+     */
+    public void evictLinkCollections(Collection<Long> artistIds, Collection<Long> albumIds) {
+        List<Long> artists = List.copyOf(artistIds);
+        List<Long> albums = List.copyOf(albumIds);
+        evictLinks(artists, albums);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLinks(artists, albums);
+                }
+            });
+        }
+    }
+
+    private void evictLinks(Collection<Long> artistIds, Collection<Long> albumIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        artistIds.forEach(id -> {
+            cache.evictEntityData(Artist.class, id);
+            cache.evictCollectionData(ARTIST_ALBUMS, id);
+        });
+        albumIds.forEach(id -> {
+            cache.evictEntityData(Album.class, id);
+            cache.evictCollectionData(ALBUM_ARTISTS, id);
+        });
+    }
+
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidationEvent event) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (event.isFullFlush()) {
+            cache.evictAllRegions();
+            log.info("Cache de segundo nível esvaziado");
+            return;
+        }
+
+        switch (event.getRegion()) {
+            case ALBUM -> {
+                for (Long id : event.getIds()) {
+                    cache.evictEntityData(Album.class, id);
+                    cache.evictCollectionData(ALBUM_ARTISTS, id);
+                    cache.evictCollectionData(ALBUM_COVERS, id);
+                }
+                // Capas são identificadas pelo próprio ID, não pelo do álbum
+                cache.evictEntityData(AlbumCover.class);
+            }
+            case ARTIST -> {
+                for (Long id : event.getIds()) {
+                    cache.evictEntityData(Artist.class, id);
+                    cache.evictCollectionData(ARTIST_ALBUMS, id);
+                }
+            }
+            case REGIONAL -> {
+                cache.evictEntityData(Regional.class);
+                cache.evictQueryRegion(RegionalRepository.ACTIVE_QUERY_REGION);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.artistalbum.service;
+
+import com.artistalbum.datasource.ReplicaRoutingDataSource;
+import com.artistalbum.dto.SearchDTO;
+import com.artistalbum.event.CacheInvalidationEvent;
+import com.artistalbum.event.CatalogChangedEvent;
+import com.artistalbum.repository.AlbumRepository;
+import com.artistalbum.repository.ArtistRepository;
+import com.artistalbum.repository.projection.IdLabelRow;
+import com.artistalbum.search.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Sugestões de busca (typeahead) servidas por um índice em memória, sem consultar o banco.
+ * O índice é carregado na inicialização e atualizado após o commit de cada alteração do catálogo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestService implements DisposableBean {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final AlbumRepository albumRepository;
+    private final ArtistRepository artistRepository;
+
+    private final Object changes = new Object();
+    private final Object rebuilding = new Object();
+
+    private volatile PrefixIndex index = new PrefixIndex();
+
+    /** Reconstruções pedidas por invalidações remotas, fora da thread que as recebe. */
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "suggest-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    /**
+     * Alterações recebidas durante uma reconstrução, reaplicadas ao novo índice antes da troca;
+     * {@code null} fora de reconstruções. Protegido por {@code changes}.
+     */
+    private List<Consumer<PrefixIndex>> pendingChanges;
+
+    /**
+     * Reconstrói o índice a partir do primário. Alterações aplicadas enquanto a carga roda continuam
+     * valendo no índice atual e são reaplicadas ao novo antes da troca, para não se perderem.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (rebuilding) {
+            synchronized (changes) {
+                pendingChanges = new ArrayList<>();
+            }
+            try {
+                swapIn(ReplicaRoutingDataSource.onPrimary(this::load));
+            } finally {
+                synchronized (changes) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    private PrefixIndex load() {
+        long start = System.currentTimeMillis();
+        PrefixIndex fresh = new PrefixIndex();
+        for (IdLabelRow row : albumRepository.findAllLabels()) {
+            fresh.put(type(CatalogChangedEvent.EntityType.ALBUM), row.getId(), row.getLabel());
+        }
+        for (IdLabelRow row : artistRepository.findAllLabels()) {
+            fresh.put(type(CatalogChangedEvent.EntityType.ARTIST), row.getId(), row.getLabel());
+        }
+        fresh.optimize();
+        log.info("Índice de sugestões carregado: {} entradas em {} ms",
+                fresh.size(), System.currentTimeMillis() - start);
+        return fresh;
+    }
+
+    private void swapIn(PrefixIndex fresh) {
+        synchronized (changes) {
+            pendingChanges.forEach(change -> change.accept(fresh));
+            if (!pendingChanges.isEmpty()) {
+                log.info("{} alteração(ões) recebida(s) durante a carga reaplicada(s) ao índice de sugestões",
+                        pendingChanges.size());
+            }
+            index = fresh;
+        }
+    }
+
+    /**
+     * Aplica a alteração ao índice atual e, durante uma reconstrução, guarda-a para o novo índice.
+     */
+    private void apply(Consumer<PrefixIndex> change) {
+        synchronized (changes) {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+    }
+
+    /**
+     * Aplica ao índice a alteração de um álbum ou artista já confirmada no banco.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        String type = type(event.getEntityType());
+        if (event.getAction() == CatalogChangedEvent.Action.DELETED) {
+            apply(target -> target.remove(type, event.getId()));
+        } else {
+            apply(target -> target.put(type, event.getId(), event.getLabel()));
+        }
+    }
+
+    /**
+     * Aplica ao índice alterações feitas em outras instâncias: relê no primário (a réplica pode ainda
+     * não ter a alteração) os rótulos dos IDs alterados e remove os que não existem mais.
+     * Em um esvaziamento completo, agenda a reconstrução do índice.
+     */
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onRemoteInvalidation(CacheInvalidationEvent event) {
+        if (event.isFullFlush()) {
+            scheduleRebuild();
+        } else if (event.getRegion() == CacheInvalidationEvent.Region.ALBUM && !event.getIds().isEmpty()) {
+            reload(CatalogChangedEvent.EntityType.ALBUM, event.getIds(),
+                    ReplicaRoutingDataSource.onPrimary(() -> albumRepository.findLabelsByIdIn(event.getIds())));
+        } else if (event.getRegion() == CacheInvalidationEvent.Region.ARTIST && !event.getIds().isEmpty()) {
+            reload(CatalogChangedEvent.EntityType.ARTIST, event.getIds(),
+                    ReplicaRoutingDataSource.onPrimary(() -> artistRepository.findLabelsByIdIn(event.getIds())));
+        }
+    }
+
+    /**
+     * Reconstrói o índice na thread própria, sem ocupar a que recebe as invalidações. Pedidos feitos
+     * antes de a reconstrução agendada começar são atendidos por ela.
+     */
+    private void scheduleRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildQueued.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao reconstruir o índice de sugestões: {}", e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+    }
+
+    private void reload(CatalogChangedEvent.EntityType entityType, Set<Long> ids, List<IdLabelRow> rows) {
+        String type = type(entityType);
+        Set<Long> removed = new HashSet<>(ids);
+        for (IdLabelRow row : rows) {
+            removed.remove(row.getId());
+        }
+        apply(target -> {
+            rows.forEach(row -> target.put(type, row.getId(), row.getLabel()));
+            removed.forEach(id -> target.remove(type, id));
+        });
+    }
+
+    /**
+     * Álbuns e artistas cujas palavras começam com os termos digitados.
+     */
+    public List<SearchDTO.Suggestion> suggest(String query, int limit) {
+        return index.suggest(query, Math.min(Math.max(limit, 1), MAX_LIMIT)).stream()
+                .map(match -> SearchDTO.Suggestion.builder()
+                        .type(match.getType())
+                        .id(match.getId())
+                        .label(match.getLabel())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static String type(CatalogChangedEvent.EntityType entityType) {
+        return entityType.name().toLowerCase(Locale.ROOT);
+    }
+}
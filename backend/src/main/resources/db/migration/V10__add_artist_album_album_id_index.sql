@@ -0,0 +1,5 @@
+-- V10__add_artist_album_album_id_index.sql
+-- A chave primária (artist_id, album_id) atende buscas por artista; buscas e remoções de vínculos
+-- por álbum (artistas de um álbum, diff de vínculos na atualização) precisavam varrer a tabela.
+
+CREATE INDEX idx_artist_album_album_id ON artist_album(album_id);
@@ -0,0 +1,7 @@
+-- V11__add_album_covers_keyset_index.sql
+-- Índice composto para paginação por cursor das capas de um álbum (/albums/{id}/covers)
+
+CREATE INDEX idx_album_covers_album_id_id ON album_covers(album_id, id);
+
+-- O índice simples de V1 passa a ser coberto pelo prefixo do índice composto
+DROP INDEX idx_album_covers_album_id;
@@ -0,0 +1,9 @@
+-- V3__add_keyset_pagination_indexes.sql
+-- Índices compostos para paginação por cursor (keyset) nas listagens de álbuns e artistas
+
+CREATE INDEX idx_albums_title_id ON albums(title, id);
+CREATE INDEX idx_artists_name_id ON artists(name, id);
+
+-- Os índices simples de V1 passam a ser cobertos pelo prefixo dos índices compostos
+DROP INDEX idx_albums_title;
+DROP INDEX idx_artists_name;
@@ -0,0 +1,49 @@
+-- V4__create_album_listing.sql
+-- Tabela de leitura desnormalizada (CQRS) para listagens de álbuns.
+-- Mantida pelos serviços a cada escrita; as listagens e filtros leem apenas esta tabela, sem joins.
+
+CREATE TABLE album_listing (
+    album_id INTEGER PRIMARY KEY REFERENCES albums(id) ON DELETE CASCADE,
+    title VARCHAR(200) NOT NULL,
+    release_year INTEGER,
+    genre VARCHAR(50),
+    record_label VARCHAR(100),
+    total_tracks INTEGER,
+    artist_ids BIGINT[] NOT NULL DEFAULT '{}',
+    artist_names TEXT[] NOT NULL DEFAULT '{}',
+    artist_names_text TEXT NOT NULL DEFAULT '',
+    cover_count INTEGER NOT NULL DEFAULT 0,
+    primary_cover_id BIGINT,
+    primary_cover_key VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP
+);
+
+-- Ordenação padrão (título) e paginação por cursor (título, id)
+CREATE INDEX idx_album_listing_title_id ON album_listing(title, album_id);
+-- Filtro por artista (artist_ids @> ARRAY[id])
+CREATE INDEX idx_album_listing_artist_ids ON album_listing USING GIN (artist_ids);
+
+-- Carga inicial a partir das tabelas normalizadas
+INSERT INTO album_listing (album_id, title, release_year, genre, record_label, total_tracks,
+                           artist_ids, artist_names, artist_names_text,
+                           cover_count, primary_cover_id, primary_cover_key, created_at, updated_at)
+SELECT a.id, a.title, a.release_year, a.genre, a.record_label, a.total_tracks,
+       COALESCE(ar.ids, CAST('{}' AS BIGINT[])), COALESCE(ar.names, CAST('{}' AS TEXT[])), COALESCE(ar.names_text, ''),
+       c.cover_count, c.primary_cover_id, c.primary_cover_key, a.created_at, a.updated_at
+FROM albums a
+LEFT JOIN LATERAL (
+    SELECT array_agg(CAST(r.id AS BIGINT) ORDER BY r.name, r.id) AS ids,
+           array_agg(CAST(r.name AS TEXT) ORDER BY r.name, r.id) AS names,
+           string_agg(r.name, ' / ' ORDER BY r.name, r.id) AS names_text
+    FROM artist_album aa
+    JOIN artists r ON r.id = aa.artist_id
+    WHERE aa.album_id = a.id
+) ar ON TRUE
+LEFT JOIN LATERAL (
+    SELECT COUNT(*) AS cover_count,
+           (array_agg(CAST(ac.id AS BIGINT) ORDER BY ac.id) FILTER (WHERE ac.is_primary))[1] AS primary_cover_id,
+           (array_agg(ac.object_key ORDER BY ac.id) FILTER (WHERE ac.is_primary))[1] AS primary_cover_key
+    FROM album_covers ac
+    WHERE ac.album_id = a.id
+) c ON TRUE;
@@ -0,0 +1,5 @@
+-- Índices para os filtros combinados da busca de álbuns (album_listing)
+-- Gênero e gravadora são comparados sem diferenciar maiúsculas (lower(...) = ?)
+CREATE INDEX idx_album_listing_genre ON album_listing(lower(genre));
+CREATE INDEX idx_album_listing_record_label ON album_listing(lower(record_label));
+CREATE INDEX idx_album_listing_release_year ON album_listing(release_year);
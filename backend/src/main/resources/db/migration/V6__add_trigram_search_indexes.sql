@@ -0,0 +1,7 @@
+-- Busca por substring (LOWER(x) LIKE '%termo%') com índices trigram
+-- Os índices usam a mesma expressão lower(...) das consultas para que o planner os utilize
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_artists_name_trgm ON artists USING GIN (lower(name) gin_trgm_ops);
+CREATE INDEX idx_album_listing_title_trgm ON album_listing USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX idx_album_listing_artist_names_trgm ON album_listing USING GIN (lower(artist_names_text) gin_trgm_ops);
@@ -0,0 +1,24 @@
+-- Busca textual ranqueada sobre álbuns e artistas
+-- Configuração portuguesa sem acentos: "musica" encontra "Música"
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE TEXT SEARCH CONFIGURATION portuguese_unaccent (COPY = portuguese);
+ALTER TEXT SEARCH CONFIGURATION portuguese_unaccent
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+
+-- Colunas geradas: mantidas pelo próprio PostgreSQL a cada INSERT/UPDATE
+-- Pesos: A = título/nome, B = gênero/gravadora, C = descrição/biografia
+ALTER TABLE albums ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese_unaccent', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('portuguese_unaccent', coalesce(genre, '') || ' ' || coalesce(record_label, '')), 'B') ||
+    setweight(to_tsvector('portuguese_unaccent', coalesce(description, '')), 'C')
+) STORED;
+
+ALTER TABLE artists ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('portuguese_unaccent', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('portuguese_unaccent', coalesce(genre, '')), 'B') ||
+    setweight(to_tsvector('portuguese_unaccent', coalesce(biography, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_albums_search_vector ON albums USING GIN (search_vector);
+CREATE INDEX idx_artists_search_vector ON artists USING GIN (search_vector);
@@ -0,0 +1,12 @@
+-- V8__pooled_id_sequences.sql
+-- Sequências com incremento 50 para o otimizador pooled-lo do Hibernate (allocationSize = 50).
+-- Cada nextval reserva um bloco de 50 IDs [valor, valor + 49] para a aplicação, que passa a gerar
+-- IDs sem ida ao banco por linha e pode agrupar INSERTs em lotes JDBC (IDENTITY desativa o batch).
+-- Os DEFAULT nextval das colunas SERIAL continuam válidos para INSERTs manuais: cada um consome
+-- um bloco inteiro, sem colisão com os blocos da aplicação.
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE artists_id_seq INCREMENT BY 50;
+ALTER SEQUENCE albums_id_seq INCREMENT BY 50;
+ALTER SEQUENCE album_covers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE regionais_id_seq INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- V9__add_optimistic_lock_versions.sql
+-- Controle de concorrência otimista (@Version): cada UPDATE confere e incrementa a versão,
+-- dispensando locks de linha (SELECT ... FOR UPDATE) no caminho de escrita.
+-- A versão também é exposta como ETag e conferida via If-Match nas atualizações.
+
+ALTER TABLE artists ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE albums ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE album_covers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
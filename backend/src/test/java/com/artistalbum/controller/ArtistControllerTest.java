@@ -1,6 +1,10 @@
 package com.artistalbum.controller;
 
+import com.artistalbum.config.RateLimitConfig;
 import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
 import com.artistalbum.exception.ResourceNotFoundException;
 import com.artistalbum.security.JwtService;
 import com.artistalbum.service.ArtistService;
@@ -10,11 +14,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,7 +36,9 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(ArtistController.class)
+@Import(RateLimitConfig.class)
+@WebMvcTest(controllers = ArtistController.class, excludeAutoConfiguration = UserDetailsServiceAutoConfiguration.class,
+        properties = "rate-limit.requests-per-minute=1000")
 @DisplayName("ArtistController Integration Tests")
 class ArtistControllerTest {
 
@@ -80,7 +89,7 @@ class ArtistControllerTest {
     void shouldListArtistsWithPagination() throws Exception {
         // Given
         Page<ArtistDTO.Response> page = new PageImpl<>(List.of(artistResponse), PageRequest.of(0, 10), 1);
-        when(artistService.findAll(any())).thenReturn(page);
+        when(artistService.findAll(any(), any())).thenReturn(page);
 
         // When/Then
         mockMvc.perform(get("/api/v1/artists")
@@ -97,7 +106,7 @@ class ArtistControllerTest {
     void shouldSearchArtistsByName() throws Exception {
         // Given
         Page<ArtistDTO.Response> page = new PageImpl<>(List.of(artistResponse), PageRequest.of(0, 10), 1);
-        when(artistService.findByName(eq("Legião"), any())).thenReturn(page);
+        when(artistService.findByName(eq("Legião"), any(), any())).thenReturn(page);
 
         // When/Then
         mockMvc.perform(get("/api/v1/artists")
@@ -107,16 +116,52 @@ class ArtistControllerTest {
                 .andExpect(jsonPath("$.data.content[0].name").value("Legião Urbana"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("GET /api/v1/artists?after - Deve aplicar o filtro por nome na listagem por cursor")
+    void shouldApplyNameFilterToCursorListing() throws Exception {
+        // Given
+        CursorPage<ArtistDTO.Response> page = CursorPage.<ArtistDTO.Response>builder()
+                .content(List.of(artistResponse)).size(1).hasNext(false).build();
+        when(artistService.findAllByCursor(eq("Legião"), eq("cursor"), eq(5), any())).thenReturn(page);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/artists")
+                        .param("after", "cursor")
+                        .param("name", "Legião")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].name").value("Legião Urbana"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("GET /api/v1/artists?after - Deve retornar 400 ao combinar cursor com count, ids ou sort")
+    void shouldRejectCursorCombinedWithOtherModes() throws Exception {
+        mockMvc.perform(get("/api/v1/artists").param("after", "").param("count", "none"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/artists").param("after", "").param("ids", "1,2"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/artists").param("ids", "1,2").param("count", "none"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/artists").param("after", "").param("sort", "country"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+        verifyNoInteractions(artistService);
+    }
+
     @Test
     @WithMockUser
     @DisplayName("GET /api/v1/artists/{id} - Deve retornar artista por ID")
     void shouldGetArtistById() throws Exception {
         // Given
-        when(artistService.findById(1L)).thenReturn(artistResponse);
+        when(artistService.findValidators(eq(1L), any(FieldSelection.class))).thenReturn(new EntityTag.Validators("\"2-1000\"", 1000L));
+        when(artistService.findById(eq(1L), any())).thenReturn(artistResponse);
 
         // When/Then
         mockMvc.perform(get("/api/v1/artists/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2-1000\""))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.id").value(1))
                 .andExpect(jsonPath("$.data.name").value("Legião Urbana"));
@@ -127,7 +172,7 @@ class ArtistControllerTest {
     @DisplayName("GET /api/v1/artists/{id} - Deve retornar 404 para artista inexistente")
     void shouldReturn404ForNonExistentArtist() throws Exception {
         // Given
-        when(artistService.findById(999L)).thenThrow(new ResourceNotFoundException("Artista", "id", 999L));
+        when(artistService.findValidators(eq(999L), any(FieldSelection.class))).thenThrow(new ResourceNotFoundException("Artista", "id", 999L));
 
         // When/Then
         mockMvc.perform(get("/api/v1/artists/999"))
@@ -174,7 +219,9 @@ class ArtistControllerTest {
     @DisplayName("PUT /api/v1/artists/{id} - Deve atualizar artista existente")
     void shouldUpdateExistingArtist() throws Exception {
         // Given
-        when(artistService.update(eq(1L), any(ArtistDTO.Request.class))).thenReturn(artistResponse);
+        when(artistService.update(eq(1L), any(ArtistDTO.Request.class), isNull())).thenReturn(artistResponse);
+        when(artistService.findValidators(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new EntityTag.Validators("\"3-1000-77\"", 1000L));
 
         // When/Then
         mockMvc.perform(put("/api/v1/artists/1")
@@ -183,6 +230,7 @@ class ArtistControllerTest {
                         .content(objectMapper.writeValueAsString(artistRequest)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-1000-77\""))
                 .andExpect(jsonPath("$.data.name").value("Legião Urbana"));
     }
 
@@ -196,7 +244,8 @@ class ArtistControllerTest {
         // When/Then
         mockMvc.perform(delete("/api/v1/artists/1")
                         .with(csrf()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Artista removido com sucesso"));
 
         verify(artistService, times(1)).delete(1L);
     }
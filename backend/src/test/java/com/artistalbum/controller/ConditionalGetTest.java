@@ -0,0 +1,134 @@
+package com.artistalbum.controller;
+
+import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.exception.GlobalExceptionHandler;
+import com.artistalbum.service.AlbumService;
+import com.artistalbum.service.ArtistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET condicional nos detalhes de álbum e artista, com MockMvc standalone (sem contexto Spring):
+ * validadores lidos antes da entidade, 304 sem corpo quando conferem. Também o PUT com If-Match,
+ * que responde com os mesmos validadores do GET.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Conditional GET Tests")
+class ConditionalGetTest {
+
+    private static final long LAST_MODIFIED = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    @Mock
+    private AlbumService albumService;
+
+    @Mock
+    private ArtistService artistService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AlbumController(albumService), new ArtistController(artistService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem carregar o artista quando a ETag confere")
+    void shouldReturn304ForArtistWhenETagMatches() throws Exception {
+        // Given
+        when(artistService.findValidators(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new EntityTag.Validators("\"2-1000\"", LAST_MODIFIED));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/artists/1").header(HttpHeaders.IF_NONE_MATCH, "\"2-1000\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(artistService, never()).findById(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem carregar o álbum quando If-Modified-Since não é anterior à alteração")
+    void shouldReturn304ForAlbumWhenNotModifiedSince() throws Exception {
+        // Given
+        when(albumService.findValidators(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new EntityTag.Validators("\"3-" + LAST_MODIFIED + "\"", LAST_MODIFIED));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/albums/1").header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 01 Jan 2024 00:00:00 GMT"))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(albumService, never()).findById(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve responder 200 com ETag e Last-Modified quando a ETag do cliente está desatualizada")
+    void shouldReturnAlbumWithValidatorsWhenETagIsStale() throws Exception {
+        // Given: um artista vinculado foi alterado depois da ETag do cliente
+        when(albumService.findValidators(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new EntityTag.Validators("\"3-" + LAST_MODIFIED + "\"", LAST_MODIFIED));
+        when(albumService.findById(eq(1L), any(FieldSelection.class)))
+                .thenReturn(AlbumDTO.Response.builder().id(1L).title("Dois").version(3L).build());
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/albums/1").header(HttpHeaders.IF_NONE_MATCH, "\"3-1000\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-" + LAST_MODIFIED + "\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 01 Jan 2024 00:00:00 GMT"))
+                .andExpect(jsonPath("$.data.title").value("Dois"));
+    }
+
+    @Test
+    @DisplayName("Deve repassar versão e data do If-Match e responder o PUT com os validadores do GET")
+    void shouldUpdateAlbumWithIfMatchAndReturnGetValidators() throws Exception {
+        // Given
+        String eTag = "\"4-" + LAST_MODIFIED + "-77\"";
+        when(albumService.update(eq(1L), any(AlbumDTO.Request.class), any(EntityTag.Precondition.class)))
+                .thenReturn(AlbumDTO.Response.builder().id(1L).title("Dois").version(4L).build());
+        when(albumService.findValidators(eq(1L), any(FieldSelection.class)))
+                .thenReturn(new EntityTag.Validators(eTag, LAST_MODIFIED));
+
+        // When/Then
+        mockMvc.perform(put("/api/v1/albums/1")
+                        .header(HttpHeaders.IF_MATCH, "\"3-1000-77\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Dois\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 01 Jan 2024 00:00:00 GMT"));
+        verify(albumService).update(eq(1L), any(AlbumDTO.Request.class), eq(new EntityTag.Precondition(3L, 1000L)));
+        verify(albumService).findValidators(eq(1L), eq(FieldSelection.all()));
+    }
+
+    @Test
+    @DisplayName("Deve responder 412 a If-Match com ETag fraca sem atualizar o álbum")
+    void shouldRejectWeakIfMatch() throws Exception {
+        // When/Then
+        mockMvc.perform(put("/api/v1/albums/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"3-" + LAST_MODIFIED + "\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Dois\"}"))
+                .andExpect(status().isPreconditionFailed());
+        verifyNoInteractions(albumService);
+    }
+}
@@ -0,0 +1,122 @@
+package com.artistalbum.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet lagResult;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        lenient().when(replicaConnection.createStatement()).thenReturn(statement);
+        lenient().when(statement.executeQuery(anyString())).thenReturn(lagResult);
+        lenient().when(lagResult.next()).thenReturn(true);
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                Duration.ofSeconds(5), Duration.ofHours(1));
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.destroy();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.clearPrimaryRequired();
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar transação readOnly à réplica e as demais ao primário")
+    void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário quando a requisição exige leitura das próprias escritas")
+    void shouldRouteToPrimaryWhenRequired() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.requirePrimary();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário nas cargas de cache e restaurar o estado anterior da thread")
+    void shouldRouteToPrimaryOnlyWithinAction() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReplicaRoutingDataSource.onPrimary(routing::determineCurrentLookupKey))
+                .isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+
+        // Exigência da requisição continua valendo depois da carga
+        ReplicaRoutingDataSource.requirePrimary();
+        ReplicaRoutingDataSource.onPrimary(() -> null);
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Deve retirar a réplica do rodízio em falha de conexão ou atraso excessivo")
+    void shouldFailOverToPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.healthyReplicas()).isEmpty();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        // Recuperada, mas com atraso acima do limite: continua fora
+        doReturn(replicaConnection).when(replica).getConnection();
+        when(lagResult.getDouble(1)).thenReturn(30.0);
+        routing.checkReplicas();
+        assertThat(routing.healthyReplicas()).isEmpty();
+
+        when(lagResult.getDouble(1)).thenReturn(0.5);
+        routing.checkReplicas();
+        assertThat(routing.healthyReplicas()).containsExactly("replica-1");
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+}
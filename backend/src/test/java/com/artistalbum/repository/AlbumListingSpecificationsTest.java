@@ -0,0 +1,139 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.entity.AlbumListing;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("AlbumListingSpecifications Tests")
+class AlbumListingSpecificationsTest {
+
+    @Autowired
+    private AlbumListingRepository albumListingRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        persist(1L, "Dois", 1986, "Rock Nacional", "EMI", 1L, "Legião Urbana");
+        persist(2L, "Que País É Este", 1987, "Rock Nacional", "EMI", 1L, "Legião Urbana");
+        persist(3L, "Cabeça Dinossauro", 1986, "Rock Nacional", "WEA", 2L, "Titãs");
+        persist(4L, "Acústico MTV", 1999, "MPB", "EMI", 1L, "Legião Urbana");
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Deve combinar todos os filtros em uma única consulta")
+    void shouldCombineAllFilters() {
+        AlbumDTO.Filter filter = AlbumDTO.Filter.builder()
+                .artistId(1L)
+                .artistName("legião")
+                .genre("rock nacional")
+                .releaseYearFrom(1986)
+                .releaseYearTo(1990)
+                .recordLabel("emi")
+                .title("e")
+                .build();
+
+        Page<AlbumListing> result = albumListingRepository.findAll(
+                AlbumListingSpecifications.matching(filter), PageRequest.of(0, 10, Sort.by("title")));
+
+        assertThat(result.getContent()).extracting(AlbumListing::getTitle)
+                .containsExactly("Que País É Este");
+        assertThat(result.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar todos os álbuns quando nenhum filtro é informado")
+    void shouldReturnAllWhenFilterIsEmpty() {
+        Page<AlbumListing> result = albumListingRepository.findAll(
+                AlbumListingSpecifications.matching(new AlbumDTO.Filter()), PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve buscar fatia sem COUNT indicando se há próxima página")
+    void shouldFindSliceWithoutCount() {
+        AlbumDTO.Filter filter = AlbumDTO.Filter.builder().recordLabel("EMI").build();
+
+        Slice<AlbumListing> first = albumListingRepository.findSlice(
+                AlbumListingSpecifications.matching(filter), PageRequest.of(0, 2, Sort.by("title")));
+        Slice<AlbumListing> last = albumListingRepository.findSlice(
+                AlbumListingSpecifications.matching(filter), PageRequest.of(1, 2, Sort.by("title")));
+
+        assertThat(first.getContent()).extracting(AlbumListing::getTitle).containsExactly("Acústico MTV", "Dois");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(AlbumListing::getTitle).containsExactly("Que País É Este");
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor (título, id) mantendo os filtros")
+    void shouldPageFilteredListingAfterCursor() {
+        Specification<AlbumListing> legiao = AlbumListingSpecifications.matching(
+                AlbumDTO.Filter.builder().artistId(1L).build());
+        PageRequest limit = PageRequest.of(0, 2, Sort.by("title", "id"));
+
+        Slice<AlbumListing> first = albumListingRepository.findSlice(legiao, limit);
+        AlbumListing last = first.getContent().get(first.getContent().size() - 1);
+        Slice<AlbumListing> second = albumListingRepository.findSlice(Specification.allOf(legiao,
+                AlbumListingSpecifications.titleAfter(last.getTitle(), last.getId())), limit);
+
+        assertThat(first.getContent()).extracting(AlbumListing::getTitle).containsExactly("Acústico MTV", "Dois");
+        assertThat(second.getContent()).extracting(AlbumListing::getTitle).containsExactly("Que País É Este");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve tratar % e _ da busca como texto literal")
+    void shouldMatchWildcardsLiterally() {
+        persist(5L, "100% Ao Vivo", 2001, "Rock Nacional", "EMI", 2L, "Titãs_");
+        entityManager.flush();
+
+        Page<AlbumListing> percent = albumListingRepository.findAll(AlbumListingSpecifications.matching(
+                AlbumDTO.Filter.builder().title("%").build()), PageRequest.of(0, 10));
+        Page<AlbumListing> underscore = albumListingRepository.findAll(AlbumListingSpecifications.matching(
+                AlbumDTO.Filter.builder().artistName("_").build()), PageRequest.of(0, 10));
+
+        assertThat(percent.getContent()).extracting(AlbumListing::getTitle).containsExactly("100% Ao Vivo");
+        assertThat(underscore.getContent()).extracting(AlbumListing::getTitle).containsExactly("100% Ao Vivo");
+        assertThat(albumListingRepository.findByTitleContaining("%", PageRequest.of(0, 10)).getContent())
+                .extracting(AlbumListing::getTitle).containsExactly("100% Ao Vivo");
+        assertThat(albumListingRepository.findByArtistNameContaining("_", PageRequest.of(0, 10)).getContent())
+                .extracting(AlbumListing::getTitle).containsExactly("100% Ao Vivo");
+    }
+
+    private void persist(Long id, String title, Integer year, String genre, String label,
+                         Long artistId, String artistName) {
+        entityManager.persist(AlbumListing.builder()
+                .id(id)
+                .title(title)
+                .releaseYear(year)
+                .genre(genre)
+                .recordLabel(label)
+                .artistIds(new Long[]{artistId})
+                .artistNames(new String[]{artistName})
+                .artistNamesText(artistName)
+                .coverCount(0)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
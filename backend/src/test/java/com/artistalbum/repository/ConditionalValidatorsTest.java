@@ -0,0 +1,79 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.Album;
+import com.artistalbum.entity.Artist;
+import com.artistalbum.repository.projection.VersionRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Validadores de GET condicional (versão e data de alteração) lidos sem carregar entidades.
+ * Cada operação roda em transação própria, como requisições distintas.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Conditional Validators Tests")
+class ConditionalValidatorsTest {
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Long albumId;
+    private Long artistId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            Album album = albumRepository.save(Album.builder().title("Dois").build());
+            Artist artist = Artist.builder().name("Legião Urbana").genre("Rock").build();
+            artist.addAlbum(album);
+            artistId = artistRepository.save(artist).getId();
+            albumId = album.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            artistRepository.deleteAll();
+            albumRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve avançar a data de alteração do álbum quando um artista vinculado é alterado")
+    void shouldAdvanceAlbumValidatorWhenLinkedArtistChanges() throws InterruptedException {
+        // Given
+        VersionRow before = albumRepository.findVersionById(albumId).orElseThrow();
+        Thread.sleep(20);
+
+        // When: o artista é renomeado, sem alterar o álbum
+        transaction.executeWithoutResult(status ->
+                artistRepository.findById(artistId).orElseThrow().setName("Legião Urbana (Ao Vivo)"));
+
+        // Then
+        VersionRow after = albumRepository.findVersionById(albumId).orElseThrow();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion());
+        assertThat(after.getUpdatedAt()).isAfter(before.getUpdatedAt());
+    }
+}
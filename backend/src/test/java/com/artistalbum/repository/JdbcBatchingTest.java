@@ -0,0 +1,74 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.Regional;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que os INSERTs de entidades com ID por sequência são agrupados em lotes JDBC.
+ * Com GenerationType.IDENTITY cada linha exigiria um statement próprio.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("JDBC Batching Tests")
+class JdbcBatchingTest {
+
+    @Autowired
+    private RegionalRepository regionalRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve gravar vários INSERTs em um único lote de statement")
+    void shouldCollapseInsertsIntoSingleBatch() {
+        // Given
+        List<Regional> regionais = LongStream.rangeClosed(1, 30)
+                .mapToObj(id -> Regional.builder().externalId(id).nome("Regional " + id).build())
+                .toList();
+
+        // When: os IDs vêm do bloco pooled-lo já reservado; o flush apenas executa os INSERTs
+        regionalRepository.saveAll(regionais);
+        statistics.clear();
+        entityManager.flush();
+
+        // Then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve reservar IDs em blocos, sem consultar a sequência a cada entidade")
+    void shouldAllocateIdsInBlocks() {
+        // Given
+        statistics.clear();
+
+        // When
+        List<Regional> saved = regionalRepository.saveAll(LongStream.rangeClosed(1, 50)
+                .mapToObj(id -> Regional.builder().externalId(id).nome("Regional " + id).build())
+                .toList());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(saved).extracting(Regional::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,145 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.Album;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concorrência otimista (@Version) contra o lock pessimista que ela substitui.
+ * Cada operação roda em transação própria, como requisições concorrentes.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Slf4j
+@DisplayName("Optimistic Locking Tests")
+class OptimisticLockingTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Long albumId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        albumId = transaction.execute(status -> albumRepository.save(
+                Album.builder().title("Dois").totalTracks(0).build()).getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> albumRepository.deleteAll());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar gravação baseada em versão desatualizada")
+    void shouldRejectStaleWrite() {
+        // Given: dois clientes leem a mesma versão
+        Album first = transaction.execute(status -> albumRepository.findById(albumId).orElseThrow());
+        Album second = transaction.execute(status -> albumRepository.findById(albumId).orElseThrow());
+
+        // When: o primeiro grava
+        first.setTitle("Dois (Remasterizado)");
+        transaction.executeWithoutResult(status -> albumRepository.save(first));
+
+        // Then: o segundo falha em vez de sobrescrever
+        second.setTitle("Dois (Edição Especial)");
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> albumRepository.save(second)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        Album stored = albumRepository.findById(albumId).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("Dois (Remasterizado)");
+        assertThat(stored.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar todas as atualizações concorrentes com @Version e comparar com lock pessimista")
+    void shouldCompareThroughputWithPessimisticLocking() throws Exception {
+        // When
+        AtomicInteger conflicts = new AtomicInteger();
+        long optimisticMs = runConcurrently(() -> {
+            while (true) {
+                try {
+                    transaction.executeWithoutResult(status -> {
+                        Album album = albumRepository.findById(albumId).orElseThrow();
+                        album.setTotalTracks(album.getTotalTracks() + 1);
+                    });
+                    return null;
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+        int afterOptimistic = totalTracks();
+
+        long pessimisticMs = runConcurrently(() -> {
+            transaction.executeWithoutResult(status -> {
+                Album album = entityManager.find(Album.class, albumId, LockModeType.PESSIMISTIC_WRITE);
+                album.setTotalTracks(album.getTotalTracks() + 1);
+            });
+            return null;
+        });
+
+        // Then: nenhuma atualização perdida em nenhuma das estratégias
+        int updates = THREADS * UPDATES_PER_THREAD;
+        assertThat(afterOptimistic).isEqualTo(updates);
+        assertThat(totalTracks()).isEqualTo(updates * 2);
+        log.info("{} atualizações concorrentes no mesmo álbum: otimista {} ms ({} conflitos refeitos), "
+                        + "pessimista {} ms", updates, optimisticMs, conflicts.get(), pessimisticMs);
+    }
+
+    private int totalTracks() {
+        return albumRepository.findById(albumId).orElseThrow().getTotalTracks();
+    }
+
+    private long runConcurrently(Callable<Void> update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.currentTimeMillis();
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS * UPDATES_PER_THREAD; i++) {
+                futures.add(executor.submit(update));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return System.currentTimeMillis() - start;
+    }
+}
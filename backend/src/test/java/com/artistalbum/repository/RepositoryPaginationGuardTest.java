@@ -0,0 +1,98 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.Album;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Repository Pagination Guard Tests")
+class RepositoryPaginationGuardTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Deve falhar quando JOIN FETCH de coleção é paginado em memória")
+    void shouldFailOnPaginationOverCollectionFetch() {
+        assertThatThrownBy(() -> entityManager
+                .createQuery("SELECT a FROM Album a LEFT JOIN FETCH a.covers", Album.class)
+                .setMaxResults(10)
+                .getResultList())
+                .hasMessageContaining("in-memory pagination");
+    }
+
+    @Test
+    @DisplayName("Nenhuma consulta paginada dos repositórios deve paginar em memória")
+    void noPageableRepositoryQueryShouldPaginateInMemory() {
+        List<String> failures = new ArrayList<>();
+        int checked = 0;
+
+        for (JpaRepository<?, ?> repository : context.getBeansOfType(JpaRepository.class).values()) {
+            for (Class<?> repositoryInterface : repository.getClass().getInterfaces()) {
+                if (!repositoryInterface.getPackageName().equals(getClass().getPackageName())) {
+                    continue;
+                }
+                for (Method method : repositoryInterface.getDeclaredMethods()) {
+                    if (Arrays.asList(method.getParameterTypes()).contains(Pageable.class)) {
+                        invokeWithSampleArguments(repository, method, failures);
+                        checked++;
+                    }
+                }
+            }
+        }
+
+        assertThat(checked).isPositive();
+        assertThat(failures).isEmpty();
+    }
+
+    private void invokeWithSampleArguments(Object repository, Method method, List<String> failures) {
+        Object[] args = Arrays.stream(method.getParameterTypes())
+                .map(this::sampleArgument)
+                .toArray();
+        try {
+            method.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            failures.add(method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                    + ": " + e.getTargetException().getMessage());
+        } catch (IllegalAccessException e) {
+            failures.add(method.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private Object sampleArgument(Class<?> type) {
+        if (type == Pageable.class) {
+            return PageRequest.of(1, 5);
+        }
+        if (type == String.class) {
+            return "a";
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.artistalbum.repository;
+
+import com.artistalbum.entity.Album;
+import com.artistalbum.entity.Artist;
+import com.artistalbum.entity.Regional;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache de segundo nível e de consultas do Hibernate (JCache/Caffeine).
+ * Cada leitura roda em transação própria, como requisições distintas: só o cache compartilhado evita o SQL.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Second-Level Cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private RegionalRepository regionalRepository;
+
+    @Autowired
+    private ArtistRepository artistRepository;
+
+    @Autowired
+    private AlbumRepository albumRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            artistRepository.deleteAll();
+            albumRepository.deleteAll();
+            regionalRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve servir regionais ativas do cache de consultas sem executar SQL")
+    void shouldServeActiveRegionaisFromQueryCache() {
+        // Given
+        transaction.executeWithoutResult(status -> regionalRepository.saveAll(LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> Regional.builder().externalId(id).nome("Regional " + id).build())
+                .toList()));
+        List<Regional> first = transaction.execute(status -> regionalRepository.findByAtivoTrue());
+        statistics.clear();
+
+        // When
+        List<Regional> second = transaction.execute(status -> regionalRepository.findByAtivoTrue());
+        List<Regional> third = transaction.execute(status -> regionalRepository.findByAtivoTrue());
+
+        // Then
+        assertThat(second).hasSameSizeAs(first).hasSize(5);
+        assertThat(third).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache de consultas quando a tabela é alterada")
+    void shouldInvalidateQueryCacheOnWrite() {
+        // Given
+        transaction.executeWithoutResult(status -> regionalRepository.save(
+                Regional.builder().externalId(1L).nome("Regional 1").build()));
+        transaction.execute(status -> regionalRepository.findByAtivoTrue());
+
+        // When
+        transaction.executeWithoutResult(status -> regionalRepository.save(
+                Regional.builder().externalId(2L).nome("Regional 2").build()));
+        List<Regional> active = transaction.execute(status -> regionalRepository.findByAtivoTrue());
+
+        // Then
+        assertThat(active).extracting(Regional::getExternalId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve servir artista e sua coleção de álbuns do cache sem executar SQL")
+    void shouldServeArtistAndAlbumsFromSecondLevelCache() {
+        // Given
+        Long artistId = transaction.execute(status -> {
+            Album album = albumRepository.save(Album.builder().title("Dois").build());
+            Artist artist = Artist.builder().name("Legião Urbana").build();
+            artist.getAlbums().add(album);
+            return artistRepository.save(artist).getId();
+        });
+        transaction.execute(status -> titlesOf(artistId));
+        statistics.clear();
+
+        // When
+        List<String> titles = transaction.execute(status -> titlesOf(artistId));
+        transaction.execute(status -> titlesOf(artistId));
+
+        // Then
+        assertThat(titles).containsExactly("Dois");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(6);
+    }
+
+    private List<String> titlesOf(Long artistId) {
+        return artistRepository.findById(artistId).orElseThrow().getAlbums().stream()
+                .map(Album::getTitle)
+                .toList();
+    }
+}
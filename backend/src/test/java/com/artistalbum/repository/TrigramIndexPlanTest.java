@@ -0,0 +1,112 @@
+package com.artistalbum.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Planos das buscas por substring no PostgreSQL real: as consultas de {@link ArtistRepository} e
+ * {@link AlbumListingRepository} devem usar os índices trigram da V6.
+ * <p>
+ * Roda apenas com {@code TEST_POSTGRES_URL} definido (ex.: {@code jdbc:postgresql://localhost:5432/postgres});
+ * cria um banco descartável nesse servidor, aplica as migrations e o remove ao final.
+ * Usuário e senha vêm de {@code TEST_POSTGRES_USER} e {@code TEST_POSTGRES_PASSWORD} (padrão postgres).
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DisplayName("Trigram Index Plan Tests (PostgreSQL)")
+class TrigramIndexPlanTest {
+
+    private static final String USER = Objects.requireNonNullElse(System.getenv("TEST_POSTGRES_USER"), "postgres");
+    private static final String PASSWORD = Objects.requireNonNullElse(System.getenv("TEST_POSTGRES_PASSWORD"), "postgres");
+
+    private static String database;
+    private static String url;
+
+    @BeforeAll
+    static void createDatabase() throws SQLException {
+        String serverUrl = System.getenv("TEST_POSTGRES_URL");
+        database = "artistalbum_plan_" + UUID.randomUUID().toString().substring(0, 8);
+        url = serverUrl.replaceFirst("^(jdbc:postgresql://[^/]+/)[^?]*", "$1" + database);
+        try (Connection connection = DriverManager.getConnection(serverUrl, USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + database);
+        }
+        Flyway.configure().dataSource(url, USER, PASSWORD).locations("classpath:db/migration").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO artists (name, created_at) "
+                    + "SELECT 'Artista ' || md5(CAST(i AS TEXT)), now() FROM generate_series(1, 20000) i");
+            statement.execute("INSERT INTO albums (title, created_at) "
+                    + "SELECT 'Álbum ' || md5(CAST(i AS TEXT)), now() FROM generate_series(1, 20000) i");
+            statement.execute("INSERT INTO album_listing (album_id, title, artist_names_text, created_at) "
+                    + "SELECT a.id, a.title, 'Artista ' || md5(a.title), a.created_at FROM albums a "
+                    + "ON CONFLICT (album_id) DO NOTHING");
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void dropDatabase() throws SQLException {
+        if (database == null) {
+            return;
+        }
+        try (Connection connection = DriverManager.getConnection(System.getenv("TEST_POSTGRES_URL"), USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + database + " WITH (FORCE)");
+        }
+    }
+
+    @Test
+    @DisplayName("Busca de artistas por nome deve usar idx_artists_name_trgm")
+    void artistNameSearchShouldUseTrigramIndex() throws SQLException {
+        assertThat(genericPlan("SELECT a1_0.id FROM artists a1_0 "
+                + "WHERE lower(a1_0.name) LIKE lower(('%'||$1||'%')) ESCAPE '\\'"))
+                .contains("idx_artists_name_trgm");
+    }
+
+    @Test
+    @DisplayName("Busca de álbuns por título e por artista deve usar os índices trigram de album_listing")
+    void albumListingSearchShouldUseTrigramIndexes() throws SQLException {
+        assertThat(genericPlan("SELECT l1_0.album_id FROM album_listing l1_0 "
+                + "WHERE lower(l1_0.title) LIKE lower(('%'||$1||'%')) ESCAPE '\\'"))
+                .contains("idx_album_listing_title_trgm");
+        assertThat(genericPlan("SELECT l1_0.album_id FROM album_listing l1_0 "
+                + "WHERE lower(l1_0.artist_names_text) LIKE lower(('%'||$1||'%')) ESCAPE '\\'"))
+                .contains("idx_album_listing_artist_names_trgm");
+    }
+
+    /**
+     * Plano genérico (o dos prepared statements reaproveitados pelo driver) da consulta com um
+     * parâmetro de texto, na forma SQL que o Hibernate gera para as {@code @Query} dos repositórios.
+     */
+    private static String genericPlan(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, USER, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE search(text) AS " + sql);
+            List<String> lines = new ArrayList<>();
+            try (ResultSet plan = statement.executeQuery("EXPLAIN EXECUTE search('a1b2')")) {
+                while (plan.next()) {
+                    lines.add(plan.getString(1));
+                }
+            }
+            return String.join("\n", lines);
+        }
+    }
+}
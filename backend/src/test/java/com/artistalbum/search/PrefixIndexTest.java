@@ -0,0 +1,216 @@
+package com.artistalbum.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrefixIndex Unit Tests")
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex();
+        index.put("artist", 1L, "Legião Urbana");
+        index.put("album", 1L, "Que País É Este");
+        index.put("album", 2L, "As Quatro Estações");
+        index.put("artist", 2L, "Titãs");
+    }
+
+    @Test
+    @DisplayName("Deve sugerir por prefixo de palavra sem diferenciar acentos")
+    void shouldSuggestByWordPrefixIgnoringAccents() {
+        assertThat(labels(index.suggest("legi", 10))).containsExactly("Legião Urbana");
+        assertThat(labels(index.suggest("estac", 10))).containsExactly("As Quatro Estações");
+        assertThat(labels(index.suggest("ur", 10))).containsExactly("Legião Urbana");
+    }
+
+    @Test
+    @DisplayName("Deve exigir todos os termos da consulta")
+    void shouldRequireAllTerms() {
+        assertThat(labels(index.suggest("pais este", 10))).containsExactly("Que País É Este");
+        assertThat(index.suggest("pais titas", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve conferir termos maiores que o prefixo indexado")
+    void shouldVerifyTermsLongerThanIndexedPrefix() {
+        assertThat(labels(index.suggest("estacoes", 10))).containsExactly("As Quatro Estações");
+        assertThat(index.suggest("estacionamento", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções")
+    void shouldApplyUpdatesAndRemovals() {
+        index.put("artist", 2L, "Titãs Acústico");
+        index.remove("artist", 1L);
+
+        assertThat(index.suggest("legiao", 10)).isEmpty();
+        assertThat(labels(index.suggest("acus", 10))).containsExactly("Titãs Acústico");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve compactar após muitas remoções sem perder entradas ativas")
+    void shouldCompactAfterManyRemovals() {
+        for (long id = 100; id < 3100; id++) {
+            index.put("album", id, "Ao Vivo " + id);
+        }
+        for (long id = 100; id < 3100; id++) {
+            index.remove("album", id);
+        }
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.suggest("vivo", 10)).isEmpty();
+        assertThat(labels(index.suggest("titas", 10))).containsExactly("Titãs");
+    }
+
+    @Test
+    @DisplayName("Deve compactar após muitas atualizações da mesma entrada")
+    void shouldCompactAfterManyUpdates() {
+        for (int i = 0; i < 3000; i++) {
+            index.put("artist", 2L, "Titãs " + i);
+        }
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.documentCount()).isLessThan(2000);
+        assertThat(labels(index.suggest("titas", 10))).containsExactly("Titãs 2999");
+    }
+
+    @Test
+    @DisplayName("Deve ranquear todos os candidatos, não apenas os primeiros da posting list")
+    void shouldRankAllCandidatesBeyondLimit() {
+        for (long id = 100; id < 150; id++) {
+            index.put("album", id, "Coletânea de Sucessos da Legião " + id);
+        }
+        index.put("album", 200L, "Legião");
+
+        assertThat(labels(index.suggest("legiao", 2))).containsExactly("Legião", "Legião Urbana");
+    }
+
+    @Test
+    @DisplayName("Deve ranquear como a varredura completa após renumerar e incluir novas entradas")
+    void shouldRankLikeFullScanAfterOptimize() {
+        Random random = new Random(42);
+        String[] vocabulary = vocabulary(random, 300);
+        PrefixIndex optimized = new PrefixIndex();
+        Map<Long, String> entries = new HashMap<>();
+        for (long id = 0; id < 20_000; id++) {
+            entries.put(id, label(random, vocabulary));
+            optimized.put("album", id, entries.get(id));
+        }
+        optimized.optimize();
+        // Entradas incluídas e alteradas depois da renumeração ficam fora da ordem do ranking
+        for (long id = 19_500; id < 21_000; id++) {
+            entries.put(id, label(random, vocabulary));
+            optimized.put("album", id, entries.get(id));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String query = query(random, vocabulary);
+            List<String> found = labels(optimized.suggest(query, 8));
+            List<String> expected = fullScan(entries.values(), query, 8);
+            // Empates de comprimento podem vir em qualquer ordem: compara a posição no ranking de cada resultado
+            assertThat(found).as(query).allMatch(label -> matchesAllTerms(label, query));
+            assertThat(found.stream().map(label -> rank(label, query)).toList()).as(query)
+                    .isEqualTo(expected.stream().map(label -> rank(label, query)).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve responder com p99 abaixo de 5 ms com 1 milhão de entradas")
+    void shouldSuggestUnderFiveMillisAtOneMillionEntries() {
+        Random random = new Random(7);
+        String[] vocabulary = vocabulary(random, 5000);
+        PrefixIndex large = new PrefixIndex();
+        for (long id = 0; id < 1_000_000; id++) {
+            large.put(id % 4 == 0 ? "artist" : "album", id, label(random, vocabulary));
+        }
+        large.optimize();
+
+        String[] queries = new String[2000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = query(random, vocabulary);
+            large.suggest(queries[i], 10);
+        }
+        // Melhor de três execuções por consulta: descarta pausas do GC e do escalonador, alheias ao índice
+        long[] nanos = new long[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            nanos[i] = Long.MAX_VALUE;
+            for (int run = 0; run < 3; run++) {
+                long start = System.nanoTime();
+                large.suggest(queries[i], 10);
+                nanos[i] = Math.min(nanos[i], System.nanoTime() - start);
+            }
+        }
+        Arrays.sort(nanos);
+
+        assertThat(nanos[nanos.length * 99 / 100]).isLessThan(5_000_000L);
+    }
+
+    /**
+     * Resultado esperado pela definição do ranking, avaliando todas as entradas.
+     */
+    private static List<String> fullScan(Collection<String> entries, String query, int limit) {
+        return entries.stream()
+                .filter(label -> matchesAllTerms(label, query))
+                .sorted(Comparator.comparing((String label) -> rank(label, query)))
+                .limit(limit)
+                .toList();
+    }
+
+    private static boolean matchesAllTerms(String label, String query) {
+        String words = " " + PrefixIndex.normalize(label);
+        return Arrays.stream(PrefixIndex.normalize(query).split(" ")).allMatch(term -> words.contains(" " + term));
+    }
+
+    /**
+     * Posição no ranking sem o desempate: começa pela consulta, depois o comprimento do rótulo.
+     */
+    private static String rank(String label, String query) {
+        boolean startsWithQuery = PrefixIndex.normalize(label).startsWith(PrefixIndex.normalize(query));
+        return (startsWithQuery ? "0-" : "1-") + String.format("%05d", label.length());
+    }
+
+    private static String[] vocabulary(Random random, int size) {
+        String[] syllables = {"ba", "ca", "da", "fe", "ga", "lo", "ma", "ne", "pa", "ri", "sa", "to", "vi", "ção", "ões"};
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder word = new StringBuilder();
+            for (int s = 0; s < 2 + random.nextInt(3); s++) {
+                word.append(syllables[random.nextInt(syllables.length)]);
+            }
+            words[i] = word.toString();
+        }
+        return words;
+    }
+
+    private static String label(Random random, String[] vocabulary) {
+        StringBuilder label = new StringBuilder(vocabulary[random.nextInt(vocabulary.length)]);
+        for (int w = 0; w < random.nextInt(4); w++) {
+            label.append(' ').append(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return label.toString();
+    }
+
+    private static String query(Random random, String[] vocabulary) {
+        String word = PrefixIndex.normalize(vocabulary[random.nextInt(vocabulary.length)]);
+        String last = word.substring(0, Math.min(word.length(), 2 + random.nextInt(5)));
+        return random.nextInt(3) == 0 ? vocabulary[random.nextInt(vocabulary.length)] + " " + last : last;
+    }
+
+    private List<String> labels(List<PrefixIndex.Match> matches) {
+        return matches.stream().map(PrefixIndex.Match::getLabel).toList();
+    }
+}
@@ -1,12 +1,24 @@
 package com.artistalbum.service;
 
 import com.artistalbum.dto.AlbumDTO;
+import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.EntityTag;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.dto.MultiGetResponse;
+import com.artistalbum.dto.SlicePage;
 import com.artistalbum.entity.Album;
+import com.artistalbum.entity.AlbumCover;
+import com.artistalbum.entity.AlbumListing;
 import com.artistalbum.entity.Artist;
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.exception.PreconditionFailedException;
 import com.artistalbum.exception.ResourceNotFoundException;
 import com.artistalbum.repository.AlbumCoverRepository;
+import com.artistalbum.repository.AlbumListingRepository;
 import com.artistalbum.repository.AlbumRepository;
 import com.artistalbum.repository.ArtistRepository;
+import com.artistalbum.repository.projection.VersionRow;
 import com.artistalbum.validation.FileValidator;
 import com.artistalbum.websocket.AlbumNotificationService;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,22 +27,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,9 +65,15 @@ class AlbumServiceTest {
     @Mock
     private ArtistRepository artistRepository;
 
+    @Mock
+    private ArtistAlbumLinkService linkService;
+
     @Mock
     private AlbumCoverRepository albumCoverRepository;
 
+    @Mock
+    private AlbumListingRepository albumListingRepository;
+
     @Mock
     private MinioService minioService;
 
@@ -55,10 +83,25 @@ class AlbumServiceTest {
     @Mock
     private FileValidator fileValidator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CountEstimateService countEstimateService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CatalogDetailCache detailCache =
+            new CatalogDetailCache(new SimpleMeterRegistry(), mock(CacheInvalidationBus.class),
+                    100, Duration.ofMinutes(10));
+
     @InjectMocks
     private AlbumService albumService;
 
     private Album album;
+    private AlbumListing albumListing;
     private Artist artist;
     private AlbumDTO.Request albumRequest;
     private Pageable pageable;
@@ -87,6 +130,23 @@ class AlbumServiceTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        albumListing = AlbumListing.builder()
+                .id(1L)
+                .title("Dois")
+                .releaseYear(1986)
+                .genre("Rock Nacional")
+                .recordLabel("EMI")
+                .totalTracks(10)
+                .artistIds(new Long[]{1L})
+                .artistNames(new String[]{"Legião Urbana"})
+                .artistNamesText("Legião Urbana")
+                .coverCount(1)
+                .primaryCoverId(10L)
+                .primaryCoverKey("albums/1/capa.jpg")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
         albumRequest = AlbumDTO.Request.builder()
                 .title("Dois")
                 .releaseYear(1986)
@@ -104,8 +164,9 @@ class AlbumServiceTest {
     @DisplayName("Deve listar todos os álbuns com paginação")
     void shouldFindAllAlbumsWithPagination() {
         // Given
-        Page<Album> albumPage = new PageImpl<>(List.of(album), pageable, 1);
-        when(albumRepository.findAllWithArtistsAndCoversPageable(pageable)).thenReturn(albumPage);
+        Page<AlbumListing> listingPage = new PageImpl<>(List.of(albumListing), pageable, 1);
+        when(albumListingRepository.findAll(pageable)).thenReturn(listingPage);
+        when(minioService.getPresignedUrl("albums/1/capa.jpg")).thenReturn("http://minio/albums/1/capa.jpg");
 
         // When
         Page<AlbumDTO.Response> result = albumService.findAll(pageable);
@@ -113,15 +174,21 @@ class AlbumServiceTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getTitle()).isEqualTo("Dois");
-        verify(albumRepository, times(1)).findAllWithArtistsAndCoversPageable(pageable);
+        AlbumDTO.Response response = result.getContent().get(0);
+        assertThat(response.getTitle()).isEqualTo("Dois");
+        assertThat(response.getDescription()).isNull();
+        assertThat(response.getArtists()).extracting(ArtistDTO.Summary::getName).containsExactly("Legião Urbana");
+        assertThat(response.getCovers()).extracting(AlbumDTO.CoverResponse::getPresignedUrl)
+                .containsExactly("http://minio/albums/1/capa.jpg");
+        verify(albumListingRepository, times(1)).findAll(pageable);
+        verify(albumRepository, never()).findAll(any(Pageable.class));
     }
 
     @Test
     @DisplayName("Deve buscar álbum por ID")
     void shouldFindAlbumById() {
         // Given
-        when(albumRepository.findByIdWithArtistsAndCovers(1L)).thenReturn(Optional.of(album));
+        stubAlbumDetail();
 
         // When
         AlbumDTO.Response result = albumService.findById(1L);
@@ -130,14 +197,60 @@ class AlbumServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getTitle()).isEqualTo("Dois");
-        verify(albumRepository, times(1)).findByIdWithArtistsAndCovers(1L);
+        assertThat(result.getArtists()).extracting(ArtistDTO.Summary::getName).containsExactly("Legião Urbana");
+        assertThat(result.getArtistsNextCursor()).isNull();
+        verify(albumRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve servir detalhe do álbum do cache gerando URLs pré-assinadas a cada leitura")
+    void shouldServeAlbumDetailFromCache() {
+        // Given
+        album.getCovers().add(AlbumCover.builder().id(10L).album(album)
+                .objectKey("albums/1/capa.jpg").isPrimary(true).build());
+        stubAlbumDetail();
+        when(minioService.getPresignedUrl("albums/1/capa.jpg"))
+                .thenReturn("http://minio/capa?v=1", "http://minio/capa?v=2");
+
+        // When
+        AlbumDTO.Response first = albumService.findById(1L);
+        AlbumDTO.Response second = albumService.findById(1L);
+        AlbumDTO.Response titleOnly = albumService.findById(1L, FieldSelection.parse("title"));
+
+        // Then
+        verify(albumRepository, times(1)).findById(1L);
+        assertThat(first.getCovers().get(0).getPresignedUrl()).isEqualTo("http://minio/capa?v=1");
+        assertThat(second.getCovers().get(0).getPresignedUrl()).isEqualTo("http://minio/capa?v=2");
+        assertThat(detailCache.cachedAlbum(1L).getCovers().get(0).getPresignedUrl()).isNull();
+        assertThat(titleOnly.getTitle()).isEqualTo("Dois");
+        assertThat(titleOnly.getCovers()).isNull();
+        verify(minioService, times(2)).getPresignedUrl(any());
+    }
+
+    @Test
+    @DisplayName("Deve remover álbum e seus artistas do cache ao atualizar")
+    void shouldEvictAlbumAndArtistsOnUpdate() {
+        // Given
+        stubAlbumDetail();
+        albumService.findById(1L);
+        detailCache.artist(1L, id -> ArtistDTO.Response.fromEntity(artist, 1));
+        when(artistRepository.findIdsByAlbumId(1L)).thenReturn(List.of(1L));
+        when(albumRepository.save(any(Album.class))).thenReturn(album);
+
+        // When
+        albumService.update(1L, albumRequest);
+
+        // Then
+        assertThat(detailCache.cachedAlbum(1L)).isNull();
+        assertThat(detailCache.cachedArtist(1L)).isNull();
+        verify(albumRepository, never()).findIdsByArtistIdIn(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando álbum não encontrado")
     void shouldThrowExceptionWhenAlbumNotFound() {
         // Given
-        when(albumRepository.findByIdWithArtistsAndCovers(999L)).thenReturn(Optional.empty());
+        when(albumRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> albumService.findById(999L))
@@ -160,6 +273,7 @@ class AlbumServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo("Dois");
         verify(albumRepository, times(1)).save(any(Album.class));
+        verify(albumListingRepository, times(1)).refresh(List.of(1L));
         verify(notificationService, times(1)).notifyNewAlbum(any(AlbumDTO.Response.class));
     }
 
@@ -168,7 +282,7 @@ class AlbumServiceTest {
     void shouldUpdateExistingAlbum() {
         // Given
         when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
-        when(artistRepository.findAllById(List.of(1L))).thenReturn(List.of(artist));
+        when(artistRepository.findIdsByAlbumId(1L)).thenReturn(List.of(1L));
         when(albumRepository.save(any(Album.class))).thenReturn(album);
 
         albumRequest.setTitle("Dois - Edição Especial");
@@ -180,6 +294,88 @@ class AlbumServiceTest {
         assertThat(result).isNotNull();
         verify(albumRepository, times(1)).findById(1L);
         verify(albumRepository, times(1)).save(any(Album.class));
+        verify(albumListingRepository, times(1)).refresh(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização com versão desatualizada (If-Match)")
+    void shouldRejectUpdateWithStaleVersion() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 10, 12, 0);
+        album.setVersion(3L);
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
+        stubVersion(3L, updatedAt);
+        albumRequest.setTitle("Dois - Edição Especial");
+
+        // When/Then
+        assertThatThrownBy(() -> albumService.update(1L, albumRequest,
+                new EntityTag.Precondition(2L, EntityTag.epochMillis(updatedAt))))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("versão atual: 3");
+        verify(albumRepository, never()).save(any(Album.class));
+        assertThat(album.getTitle()).isEqualTo("Dois");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar If-Match anterior a vínculos alterados pelo lado do artista")
+    void shouldRejectUpdateAfterLinkChangedOnArtistSide() {
+        // Given: vincular pelo artista só toca updated_at do álbum; a versão continua 3
+        LocalDateTime readAt = LocalDateTime.of(2024, 1, 10, 12, 0);
+        album.setVersion(3L);
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
+        stubVersion(3L, readAt.plusMinutes(5));
+
+        // When/Then
+        assertThatThrownBy(() -> albumService.update(1L, albumRequest,
+                new EntityTag.Precondition(3L, EntityTag.epochMillis(readAt))))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> albumService.update(1L, albumRequest, new EntityTag.Precondition(3L, null)))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(albumRepository, never()).save(any(Album.class));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar álbum quando a versão informada é a atual")
+    void shouldUpdateWhenVersionMatches() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 10, 12, 0);
+        album.setVersion(3L);
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
+        stubVersion(3L, updatedAt);
+        when(artistRepository.findIdsByAlbumId(1L)).thenReturn(List.of(1L));
+        when(albumRepository.save(any(Album.class))).thenReturn(album);
+
+        // When
+        AlbumDTO.Response result = albumService.update(1L, albumRequest,
+                new EntityTag.Precondition(3L, EntityTag.epochMillis(updatedAt)));
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(3L);
+        verify(albumRepository).save(album);
+    }
+
+    @Test
+    @DisplayName("Deve obter ETag e Last-Modified sem carregar o álbum")
+    void shouldFindValidatorsWithoutLoadingAlbum() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 10, 12, 0);
+        VersionRow row = mock(VersionRow.class);
+        when(row.getVersion()).thenReturn(4L);
+        when(row.getUpdatedAt()).thenReturn(updatedAt);
+        when(albumRepository.findVersionById(1L)).thenReturn(Optional.of(row));
+        when(minioService.presignedUrlWindow()).thenReturn(77L);
+
+        // When
+        EntityTag.Validators withoutCovers = albumService.findValidators(1L, FieldSelection.parse("id,title"));
+        EntityTag.Validators withCovers = albumService.findValidators(1L, FieldSelection.all());
+
+        // Then: a ETag varia com a alteração mais recente (álbum ou artistas) e, com capas, com a janela das URLs
+        long lastModified = EntityTag.epochMillis(updatedAt);
+        assertThat(withoutCovers.eTag()).isEqualTo("\"4-" + lastModified + "\"");
+        assertThat(withCovers.eTag()).isEqualTo("\"4-" + lastModified + "-77\"");
+        assertThat(withCovers.lastModified()).isEqualTo(lastModified);
+        verify(albumRepository, never()).findById(any());
+        verify(albumRepository, never()).findByIdWithArtistsAndCovers(any());
     }
 
     @Test
@@ -201,8 +397,8 @@ class AlbumServiceTest {
     @DisplayName("Deve buscar álbuns por título")
     void shouldFindAlbumsByTitle() {
         // Given
-        Page<Album> albumPage = new PageImpl<>(List.of(album), pageable, 1);
-        when(albumRepository.findByTitleContainingIgnoreCase("Dois", pageable)).thenReturn(albumPage);
+        Page<AlbumListing> listingPage = new PageImpl<>(List.of(albumListing), pageable, 1);
+        when(albumListingRepository.findByTitleContaining("Dois", pageable)).thenReturn(listingPage);
 
         // When
         Page<AlbumDTO.Response> result = albumService.findByTitle("Dois", pageable);
@@ -217,8 +413,8 @@ class AlbumServiceTest {
     @DisplayName("Deve buscar álbuns por artista")
     void shouldFindAlbumsByArtist() {
         // Given
-        Page<Album> albumPage = new PageImpl<>(List.of(album), pageable, 1);
-        when(albumRepository.findByArtistId(1L, pageable)).thenReturn(albumPage);
+        Page<AlbumListing> listingPage = new PageImpl<>(List.of(albumListing), pageable, 1);
+        when(albumListingRepository.findByArtistId(1L, pageable)).thenReturn(listingPage);
 
         // When
         Page<AlbumDTO.Response> result = albumService.findByArtistId(1L, pageable);
@@ -227,4 +423,174 @@ class AlbumServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
     }
+
+    @Test
+    @DisplayName("Deve listar álbuns por cursor e retornar o próximo cursor")
+    void shouldFindAlbumsByCursor() {
+        // Given
+        AlbumListing next = AlbumListing.builder()
+                .id(2L)
+                .title("Que País É Este")
+                .artistIds(new Long[0])
+                .artistNames(new String[0])
+                .build();
+        when(albumListingRepository.findFirstKeysetPage(PageRequest.of(0, 2))).thenReturn(List.of(albumListing, next));
+        when(albumListingRepository.findKeysetPageAfter("Dois", 1L, PageRequest.of(0, 2))).thenReturn(List.of(next));
+
+        // When
+        CursorPage<AlbumDTO.Response> first = albumService.findAllByCursor("", 1);
+        CursorPage<AlbumDTO.Response> second = albumService.findAllByCursor(first.getNextCursor(), 1);
+
+        // Then
+        assertThat(first.getContent()).extracting(AlbumDTO.Response::getTitle).containsExactly("Dois");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting(AlbumDTO.Response::getTitle).containsExactly("Que País É Este");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> albumService.findAllByCursor("cursor-invalido", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Deve listar álbuns sem COUNT quando a contagem é omitida")
+    void shouldSearchSliceWithoutCount() {
+        // Given
+        AlbumDTO.Filter filter = AlbumDTO.Filter.builder().genre("Rock Nacional").build();
+        when(albumListingRepository.findSlice(any(Specification.class), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(albumListing), pageable, false));
+
+        // When
+        SlicePage<AlbumDTO.Response> result = albumService.searchSlice(filter, pageable, SlicePage.CountMode.NONE,
+                FieldSelection.all());
+
+        // Then
+        assertThat(result.getContent()).extracting(AlbumDTO.Response::getTitle).containsExactly("Dois");
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getTotalElements()).isNull();
+        verify(albumListingRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        verifyNoInteractions(countEstimateService);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ordenação por propriedade ausente da listagem")
+    void shouldRejectUnsupportedSort() {
+        Pageable byDescription = PageRequest.of(0, 10, Sort.by("description"));
+
+        assertThatThrownBy(() -> albumService.search(new AlbumDTO.Filter(), byDescription, FieldSelection.all()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("description");
+        verifyNoInteractions(albumListingRepository);
+    }
+
+    @Test
+    @DisplayName("Deve carregar apenas os campos solicitados ao buscar álbum por ID")
+    void shouldFindAlbumByIdWithSelectedFieldsOnly() {
+        // Given
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
+
+        // When
+        AlbumDTO.Response result = albumService.findById(1L, FieldSelection.parse("title"));
+
+        // Then
+        assertThat(result.getTitle()).isEqualTo("Dois");
+        assertThat(result.getCovers()).isNull();
+        verify(albumRepository, never()).findByIdWithArtistsAndCovers(any());
+        verifyNoInteractions(minioService);
+    }
+
+    @Test
+    @DisplayName("Não deve gerar URL pré-assinada na listagem quando covers não é solicitado")
+    void shouldNotPresignCoversWhenNotRequested() {
+        // Given
+        when(albumListingRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(albumListing), pageable, 1));
+
+        // When
+        Page<AlbumDTO.Response> result = albumService.search(new AlbumDTO.Filter(), pageable,
+                FieldSelection.parse("id,title"));
+
+        // Then
+        assertThat(result.getContent().get(0).getCovers()).isNull();
+        assertThat(result.getContent().get(0).getArtists()).isNull();
+        verifyNoInteractions(minioService);
+    }
+
+    @Test
+    @DisplayName("Deve buscar álbuns por lista de IDs mantendo a ordem e informando os não encontrados")
+    void shouldFindAlbumsByIdsInRequestedOrder() {
+        // Given
+        Album other = Album.builder().id(2L).title("Que País É Este")
+                .artists(new HashSet<>()).covers(new ArrayList<>()).build();
+        when(albumRepository.findAllWithArtistsByIdIn(Set.of(2L, 99L, 1L))).thenReturn(List.of(album, other));
+        when(albumRepository.findAllWithCoversByIdIn(Set.of(2L, 99L, 1L))).thenReturn(List.of(album, other));
+
+        // When
+        MultiGetResponse<AlbumDTO.Response> result = albumService.findAllByIds(List.of(2L, 99L, 1L, 2L),
+                FieldSelection.all());
+
+        // Then
+        assertThat(result.getContent()).extracting(AlbumDTO.Response::getId).containsExactly(2L, 1L);
+        assertThat(result.getNotFound()).containsExactly(99L);
+        verify(albumRepository, never()).findByIdWithArtistsAndCovers(any());
+    }
+
+    @Test
+    @DisplayName("Deve incluir só a primeira página de capas no detalhe e continuar pelo sub-recurso")
+    void shouldEmbedFirstCoverPageAndContinueByCursor() {
+        // Given
+        List<AlbumCover> covers = LongStream.rangeClosed(1, 21)
+                .mapToObj(id -> AlbumCover.builder().id(id).album(album).objectKey("albums/1/" + id + ".jpg").build())
+                .toList();
+        album.getCovers().addAll(covers);
+        stubAlbumDetail();
+        when(albumCoverRepository.findPageByAlbumId(1L, 20L, PageRequest.of(0, 11)))
+                .thenReturn(covers.subList(20, 21));
+        when(minioService.getPresignedUrl(any())).thenAnswer(invocation -> "http://minio/" + invocation.getArgument(0));
+
+        // When
+        AlbumDTO.Response detail = albumService.findById(1L);
+        CursorPage<AlbumDTO.CoverResponse> next = albumService.findCovers(1L, detail.getCoversNextCursor(), 10);
+
+        // Then
+        assertThat(detail.getCovers()).hasSize(20);
+        assertThat(detail.getCoversNextCursor()).isNotNull();
+        assertThat(next.getContent()).extracting(AlbumDTO.CoverResponse::getPresignedUrl)
+                .containsExactly("http://minio/albums/1/21.jpg");
+        assertThat(next.getNextCursor()).isNull();
+        verify(minioService, times(21)).getPresignedUrl(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lista de IDs acima do limite")
+    void shouldRejectTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThatThrownBy(() -> albumService.findAllByIds(ids, FieldSelection.all()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private void stubVersion(Long version, LocalDateTime updatedAt) {
+        VersionRow row = mock(VersionRow.class);
+        when(row.getVersion()).thenReturn(version);
+        when(row.getUpdatedAt()).thenReturn(updatedAt);
+        when(albumRepository.findVersionById(1L)).thenReturn(Optional.of(row));
+    }
+
+    /**
+     * Detalhe do álbum: a entidade e a primeira página de artistas e capas, lidas das coleções do fixture.
+     */
+    private void stubAlbumDetail() {
+        when(albumRepository.findById(1L)).thenReturn(Optional.of(album));
+        when(artistRepository.findPageByAlbumId(eq(1L), eq(0L), any(Pageable.class)))
+                .thenAnswer(invocation -> new ArrayList<>(album.getArtists()));
+        when(albumCoverRepository.findPageByAlbumId(eq(1L), eq(0L), any(Pageable.class)))
+                .thenAnswer(invocation -> album.getCovers().stream()
+                        .limit(invocation.getArgument(2, Pageable.class).getPageSize())
+                        .toList());
+    }
 }
@@ -0,0 +1,111 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.entity.Album;
+import com.artistalbum.entity.Artist;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A listagem de artistas com albumCount executa a mesma quantidade de statements
+ * para qualquer tamanho de página: a página, o COUNT e uma consulta agregada de contagens.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ArtistService.class)
+@DisplayName("Artist Listing Query Count Tests")
+class ArtistListingQueryCountTest {
+
+    @Autowired
+    private ArtistService artistService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private CountEstimateService countEstimateService;
+
+    @MockBean
+    private CatalogDetailCache detailCache;
+
+    @MockBean
+    private MinioService minioService;
+
+    @MockBean
+    private ArtistAlbumLinkService linkService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 25; i++) {
+            Artist artist = Artist.builder().name(String.format("Artista %02d", i)).build();
+            for (int j = 1; j <= i % 3; j++) {
+                Album album = Album.builder().title("Álbum " + i + "-" + j).build();
+                entityManager.persist(album);
+                artist.addAlbum(album);
+            }
+            entityManager.persist(artist);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    @DisplayName("Deve listar artistas com contagem de álbuns em quantidade constante de statements")
+    void shouldCountAlbumsWithConstantStatements() {
+        // When
+        statistics.clear();
+        Page<ArtistDTO.Response> small = artistService.findAll(PageRequest.of(0, 5));
+        long smallStatements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        statistics.clear();
+        Page<ArtistDTO.Response> large = artistService.findAll(PageRequest.of(0, 20));
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallStatements).isEqualTo(3);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(large.getContent()).hasSize(20)
+                .allSatisfy(artist -> assertThat(artist.getAlbumCount())
+                        .isEqualTo(Integer.parseInt(artist.getName().substring(8)) % 3));
+        assertThat(small.getContent()).extracting(ArtistDTO.Response::getAlbumCount).doesNotContainNull();
+    }
+
+    @Test
+    @DisplayName("Deve listar por cursor sem inicializar a coleção de álbuns de cada artista")
+    void shouldCountAlbumsOnCursorPage() {
+        // When
+        statistics.clear();
+        CursorPage<ArtistDTO.Response> page = artistService.findAllByCursor(null, null, 20, FieldSelection.all());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(page.getContent()).extracting(ArtistDTO.Response::getAlbumCount)
+                .containsAll(List.of(0, 1, 2));
+    }
+}
@@ -1,30 +1,50 @@
 package com.artistalbum.service;
 
+import com.artistalbum.dto.AlbumDTO;
 import com.artistalbum.dto.ArtistDTO;
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.FieldSelection;
+import com.artistalbum.dto.SlicePage;
+import com.artistalbum.entity.Album;
 import com.artistalbum.entity.Artist;
+import com.artistalbum.exception.BusinessException;
 import com.artistalbum.exception.ResourceNotFoundException;
+import com.artistalbum.repository.AlbumCoverRepository;
+import com.artistalbum.repository.AlbumListingRepository;
 import com.artistalbum.repository.AlbumRepository;
 import com.artistalbum.repository.ArtistRepository;
+import com.artistalbum.repository.projection.IdCountRow;
+import com.artistalbum.repository.projection.IdLabelRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,9 +54,35 @@ class ArtistServiceTest {
     @Mock
     private ArtistRepository artistRepository;
 
+    @Mock
+    private ArtistAlbumLinkService linkService;
+
     @Mock
     private AlbumRepository albumRepository;
 
+    @Mock
+    private AlbumListingRepository albumListingRepository;
+
+    @Mock
+    private AlbumCoverRepository albumCoverRepository;
+
+    @Mock
+    private MinioService minioService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CountEstimateService countEstimateService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CatalogDetailCache detailCache =
+            new CatalogDetailCache(new SimpleMeterRegistry(), mock(CacheInvalidationBus.class),
+                    100, Duration.ofMinutes(10));
+
     @InjectMocks
     private ArtistService artistService;
 
@@ -107,7 +153,8 @@ class ArtistServiceTest {
     @DisplayName("Deve buscar artista por ID com álbuns")
     void shouldFindArtistByIdWithAlbums() {
         // Given
-        when(artistRepository.findByIdWithAlbums(1L)).thenReturn(Optional.of(artist));
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
+        when(albumRepository.findPageByArtistId(eq(1L), eq(0L), any(Pageable.class))).thenReturn(List.of());
 
         // When
         ArtistDTO.Response result = artistService.findById(1L);
@@ -116,14 +163,15 @@ class ArtistServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getName()).isEqualTo("Serj Tankian");
-        verify(artistRepository, times(1)).findByIdWithAlbums(1L);
+        assertThat(result.getAlbums()).isEmpty();
+        verify(artistRepository, times(1)).findById(1L);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando artista não encontrado")
     void shouldThrowExceptionWhenArtistNotFound() {
         // Given
-        when(artistRepository.findByIdWithAlbums(999L)).thenReturn(Optional.empty());
+        when(artistRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> artistService.findById(999L))
@@ -189,4 +237,175 @@ class ArtistServiceTest {
         assertThatThrownBy(() -> artistService.delete(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("Deve listar artistas por cursor sem próxima página")
+    void shouldFindArtistsByCursor() {
+        // Given
+        when(artistRepository.findFirstKeysetPage(PageRequest.of(0, 11))).thenReturn(List.of(artist));
+
+        // When
+        CursorPage<ArtistDTO.Response> result = artistService.findAllByCursor(null, 10);
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve listar artistas sem COUNT e com total estimado")
+    void shouldFindArtistsSliceWithEstimatedTotal() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(artistRepository.findAllAsSlice(pageable)).thenReturn(new SliceImpl<>(List.of(artist), pageable, true));
+        when(countEstimateService.estimateArtists(null)).thenReturn(1500L);
+
+        // When
+        SlicePage<ArtistDTO.Response> result = artistService.findAllSlice(null, pageable, SlicePage.CountMode.ESTIMATE,
+                FieldSelection.all());
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isEqualTo(1500L);
+        assertThat(result.getExact()).isFalse();
+        verify(artistRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve servir detalhe do artista do cache e removê-lo ao vincular álbum")
+    void shouldCacheArtistDetailAndEvictOnLinkChange() {
+        // Given
+        Album album = Album.builder().id(7L).title("Harakiri").build();
+        List<Album> linked = new ArrayList<>();
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
+        when(albumRepository.findPageByArtistId(eq(1L), eq(0L), any(Pageable.class)))
+                .thenAnswer(invocation -> new ArrayList<>(linked));
+        when(albumRepository.existsById(7L)).thenReturn(true);
+        // O vínculo é gravado direto em artist_album e só aparece nas consultas seguintes
+        when(linkService.linkAlbums(1L, List.of(7L))).thenAnswer(invocation -> {
+            linked.add(album);
+            return 1;
+        });
+
+        // When
+        artistService.findById(1L);
+        ArtistDTO.Response cached = artistService.findById(1L);
+        artistService.addAlbum(1L, 7L);
+        ArtistDTO.Response reloaded = artistService.findById(1L);
+
+        // Then
+        assertThat(cached.getAlbumCount()).isZero();
+        assertThat(reloaded.getAlbumCount()).isEqualTo(1);
+        // Duas cargas do detalhe (a segunda leitura veio do cache) e a resposta do vínculo
+        verify(albumRepository, times(3)).findPageByArtistId(eq(1L), eq(0L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve resolver a capa principal dos álbuns em uma consulta e gerar URL a cada resposta")
+    void shouldResolvePrimaryCoverUrlsInBatch() {
+        // Given
+        Album withCover = Album.builder().id(7L).title("Harakiri").build();
+        Album withoutCover = Album.builder().id(8L).title("Elect the Dead").build();
+        IdLabelRow primaryCover = mock(IdLabelRow.class);
+        when(primaryCover.getId()).thenReturn(7L);
+        when(primaryCover.getLabel()).thenReturn("albums/7/capa.jpg");
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
+        when(albumRepository.findPageByArtistId(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(withCover, withoutCover));
+        when(albumCoverRepository.findPrimaryKeysByAlbumIdIn(Set.of(7L, 8L))).thenReturn(List.of(primaryCover));
+        when(minioService.getPresignedUrl("albums/7/capa.jpg"))
+                .thenReturn("http://minio/albums/7/capa.jpg?sig=1", "http://minio/albums/7/capa.jpg?sig=2");
+
+        // When
+        ArtistDTO.Response first = artistService.findById(1L);
+        ArtistDTO.Response cached = artistService.findById(1L);
+
+        // Then
+        assertThat(first.getAlbums())
+                .filteredOn(album -> album.getId().equals(7L))
+                .extracting(AlbumDTO.Summary::getPrimaryCoverUrl)
+                .containsExactly("http://minio/albums/7/capa.jpg?sig=1");
+        assertThat(first.getAlbums())
+                .filteredOn(album -> album.getId().equals(8L))
+                .extracting(AlbumDTO.Summary::getPrimaryCoverUrl)
+                .containsOnlyNulls();
+        assertThat(cached.getAlbums())
+                .extracting(AlbumDTO.Summary::getPrimaryCoverUrl)
+                .contains("http://minio/albums/7/capa.jpg?sig=2");
+        verify(albumCoverRepository, times(1)).findPrimaryKeysByAlbumIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve incluir só a primeira página de álbuns no detalhe e continuar pelo sub-recurso")
+    void shouldEmbedFirstAlbumPageAndContinueByCursor() {
+        // Given
+        List<Album> firstPage = LongStream.rangeClosed(1, 21)
+                .mapToObj(id -> Album.builder().id(id).title("Álbum " + id).build())
+                .toList();
+        IdCountRow albumCount = mock(IdCountRow.class);
+        when(albumCount.getCount()).thenReturn(2000L);
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
+        when(albumRepository.findPageByArtistId(1L, 0L, PageRequest.of(0, 21))).thenReturn(firstPage);
+        when(artistRepository.countAlbumsByArtistIdIn(List.of(1L))).thenReturn(List.of(albumCount));
+        when(albumRepository.findPageByArtistId(1L, 20L, PageRequest.of(0, 51)))
+                .thenReturn(List.of(Album.builder().id(21L).title("Álbum 21").build()));
+
+        // When
+        ArtistDTO.Response detail = artistService.findById(1L);
+        CursorPage<AlbumDTO.Summary> next = artistService.findAlbums(1L, detail.getAlbumsNextCursor(), 50);
+
+        // Then
+        assertThat(detail.getAlbums()).hasSize(20);
+        assertThat(detail.getAlbumCount()).isEqualTo(2000);
+        assertThat(detail.getAlbumsNextCursor()).isNotNull();
+        assertThat(next.getContent()).extracting(AlbumDTO.Summary::getId).containsExactly(21L);
+        assertThat(next.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar álbum incluído e removido na mesma requisição de vínculos")
+    void shouldRejectOverlappingAlbumLinks() {
+        // Given
+        ArtistDTO.AlbumLinks links = ArtistDTO.AlbumLinks.builder()
+                .addAlbumIds(List.of(7L, 8L))
+                .removeAlbumIds(List.of(8L))
+                .build();
+
+        // When/Then
+        assertThatThrownBy(() -> artistService.updateAlbums(1L, links))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(linkService);
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas a diferença de vínculos e rejeitar álbum inexistente")
+    void shouldApplyAlbumLinkDiff() {
+        // Given
+        when(artistRepository.findById(1L)).thenReturn(Optional.of(artist));
+        when(albumRepository.findExistingIds(Set.of(7L, 9L))).thenReturn(List.of(7L));
+
+        // When/Then
+        assertThatThrownBy(() -> artistService.updateAlbums(1L, ArtistDTO.AlbumLinks.builder()
+                .addAlbumIds(List.of(7L, 9L)).build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(linkService);
+
+        // Given
+        when(albumRepository.findExistingIds(Set.of(7L))).thenReturn(List.of(7L));
+        when(linkService.linkAlbums(1L, Set.of(7L))).thenReturn(1);
+        when(linkService.unlinkAlbums(1L, Set.of(8L))).thenReturn(1);
+
+        // When
+        artistService.updateAlbums(1L, ArtistDTO.AlbumLinks.builder()
+                .addAlbumIds(List.of(7L))
+                .removeAlbumIds(List.of(8L))
+                .build());
+
+        // Then
+        verify(linkService).linkAlbums(1L, Set.of(7L));
+        verify(linkService).unlinkAlbums(1L, Set.of(8L));
+        verify(albumListingRepository).refresh(Set.of(7L, 8L));
+    }
 }
@@ -0,0 +1,138 @@
+package com.artistalbum.service;
+
+import com.artistalbum.event.CacheInvalidationEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus Unit Tests")
+class CacheInvalidationBusTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(jdbcTemplate, new DataSourceProperties(), eventPublisher, true,
+                Duration.ofMillis(500), Duration.ofSeconds(10), Duration.ofSeconds(5), "", Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve acumular IDs da transação em uma notificação enviada antes do commit")
+    void shouldSendOneNotificationBeforeCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(CacheInvalidationEvent.Region.ALBUM, List.of(1L, 2L));
+        bus.publish(CacheInvalidationEvent.Region.ALBUM, List.of(2L, 3L));
+        verifyNoInteractions(jdbcTemplate);
+
+        // When
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(1)).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq(CacheInvalidationBus.CHANNEL), payload.capture());
+        assertThat((String) payload.getValue()).endsWith("|ALBUM|1,2,3");
+        assertThat(TransactionSynchronizationManager.getResource(bus)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve dividir listas grandes de IDs em várias notificações")
+    void shouldSplitLargePayloads() {
+        // When
+        bus.publish(CacheInvalidationEvent.Region.ARTIST, LongStream.range(1_000_000, 1_002_000).boxed().toList());
+
+        // Then
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, atLeast(2)).query(anyString(), any(ResultSetExtractor.class),
+                eq(CacheInvalidationBus.CHANNEL), payloads.capture());
+        assertThat(payloads.getAllValues()).allSatisfy(value -> assertThat((String) value).hasSizeLessThan(8000));
+        long ids = payloads.getAllValues().stream()
+                .map(value -> bus.parse(((String) value).replaceFirst("^[^|]+", "outra")))
+                .mapToLong(event -> event.getIds().size())
+                .sum();
+        assertThat(ids).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar notificações da própria instância")
+    void shouldIgnoreOwnNotifications() {
+        // Given
+        bus.publish(CacheInvalidationEvent.Region.REGIONAL, Set.of());
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), any(), payload.capture());
+
+        // When / Then
+        assertThat(bus.parse((String) payload.getValue())).isNull();
+        CacheInvalidationEvent remote = bus.parse("outra|REGIONAL|");
+        assertThat(remote.getRegion()).isEqualTo(CacheInvalidationEvent.Region.REGIONAL);
+        assertThat(remote.getIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve republicar localmente a invalidação confirmada depois do atraso das réplicas")
+    void shouldReplayInvalidationAfterReplicaLag() {
+        // Given: instância única (sem NOTIFY) com réplica de leitura
+        CacheInvalidationBus replicated = new CacheInvalidationBus(jdbcTemplate, new DataSourceProperties(), eventPublisher,
+                false, Duration.ofMillis(500), Duration.ofSeconds(10), Duration.ofSeconds(5),
+                "jdbc:postgresql://replica/db", Duration.ofMillis(50));
+        replicated.start();
+        try {
+            TransactionSynchronizationManager.initSynchronization();
+            replicated.publish(CacheInvalidationEvent.Region.ALBUM, List.of(1L, 2L));
+
+            // When
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            verifyNoInteractions(eventPublisher);
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            ArgumentCaptor<CacheInvalidationEvent> event = ArgumentCaptor.forClass(CacheInvalidationEvent.class);
+            verify(eventPublisher, timeout(2000)).publishEvent(event.capture());
+            assertThat(event.getValue().getRegion()).isEqualTo(CacheInvalidationEvent.Region.ALBUM);
+            assertThat(event.getValue().getIds()).containsExactly(1L, 2L);
+            verifyNoInteractions(jdbcTemplate);
+        } finally {
+            replicated.stop();
+        }
+    }
+}
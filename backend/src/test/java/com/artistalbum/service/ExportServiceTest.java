@@ -0,0 +1,85 @@
+package com.artistalbum.service;
+
+import com.artistalbum.entity.AlbumListing;
+import com.artistalbum.entity.Artist;
+import com.artistalbum.repository.AlbumListingRepository;
+import com.artistalbum.repository.ArtistRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService Unit Tests")
+class ExportServiceTest {
+
+    @Mock
+    private AlbumListingRepository albumListingRepository;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(albumListingRepository, artistRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve exportar um álbum por linha em NDJSON")
+    void shouldExportAlbumsAsNdjson() throws Exception {
+        // Given
+        when(albumListingRepository.streamAll()).thenReturn(Stream.of(
+                AlbumListing.builder().id(1L).title("Dois")
+                        .artistIds(new Long[]{1L}).artistNames(new String[]{"Legião Urbana"}).build(),
+                AlbumListing.builder().id(2L).title("Que País É Este")
+                        .artistIds(new Long[0]).artistNames(new String[0]).build()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = exportService.exportAlbums(out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("title").asText()).isEqualTo("Dois");
+        assertThat(first.get("artistNames").get(0).asText()).isEqualTo("Legião Urbana");
+    }
+
+    @Test
+    @DisplayName("Deve limpar o contexto de persistência a cada lote exportado")
+    void shouldClearPersistenceContextPeriodically() {
+        // Given
+        int rows = AlbumListingRepository.EXPORT_FETCH_SIZE * 2 + 1;
+        when(artistRepository.streamAll()).thenReturn(LongStream.rangeClosed(1, rows)
+                .mapToObj(id -> Artist.builder().id(id).name("Artista " + id).build()));
+
+        // When
+        long count = exportService.exportArtists(new ByteArrayOutputStream());
+
+        // Then
+        assertThat(count).isEqualTo(rows);
+        verify(entityManager, times(2)).clear();
+    }
+}
@@ -0,0 +1,196 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.ImportDTO;
+import com.artistalbum.repository.AlbumListingRepository;
+import com.artistalbum.repository.CatalogBulkRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportService Unit Tests")
+class ImportServiceTest {
+
+    @Mock
+    private CatalogBulkRepository catalogBulkRepository;
+
+    @Mock
+    private AlbumListingRepository albumListingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CatalogDetailCache detailCache;
+
+    @Mock
+    private AlbumService albumService;
+
+    @Mock
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportService(catalogBulkRepository, albumListingRepository, eventPublisher,
+                transactionManager, objectMapper, detailCache, albumService, secondLevelCacheEvictor);
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON sem duplicar artistas existentes e reportar linhas inválidas")
+    @SuppressWarnings("unchecked")
+    void shouldImportNdjsonWithDedupAndErrors() {
+        // Given
+        String ndjson = String.join("\n",
+                "{\"type\":\"artist\",\"name\":\"Legião Urbana\",\"country\":\"Brasil\"}",
+                "{\"type\":\"artist\",\"name\":\"Titãs\"}",
+                "{\"type\":\"artist\",\"name\":\"legião urbana\"}",
+                "{\"type\":\"album\",\"title\":\"Dois\",\"releaseYear\":1986,\"artists\":[\"Legião Urbana\"]}",
+                "{\"type\":\"album\"}",
+                "{\"type\":\"link\",\"artist\":\"Titãs\",\"album\":\"Dois\"}");
+        when(catalogBulkRepository.findArtistIdsByNames(anyCollection())).thenReturn(Map.of("titãs", 7L));
+        when(catalogBulkRepository.insertArtists(any())).thenReturn(Map.of("legião urbana", 1L));
+        CatalogBulkRepository.AlbumKey dois = CatalogBulkRepository.AlbumKey.of("Dois", List.of("Legião Urbana"));
+        when(catalogBulkRepository.findAlbumIdsByTitles(anyCollection())).thenReturn(Map.of(), Map.of(dois, List.of(10L)));
+        when(catalogBulkRepository.insertAlbums(any())).thenReturn(Map.of(dois, 10L));
+        when(catalogBulkRepository.insertLinks(any(), any())).thenReturn(2);
+        List<ImportDTO.Progress> events = new ArrayList<>();
+
+        // When
+        ImportDTO.Progress done = importService.importCatalog(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ImportDTO.Format.NDJSON, events::add);
+
+        // Then
+        ArgumentCaptor<List<ImportDTO.Record>> artists = ArgumentCaptor.forClass(List.class);
+        verify(catalogBulkRepository).insertArtists(artists.capture());
+        assertThat(artists.getValue()).extracting(ImportDTO.Record::getName).containsExactly("Legião Urbana");
+        verify(catalogBulkRepository).insertLinks(new Long[]{1L, 7L}, new Long[]{10L, 10L});
+        verify(albumListingRepository).refresh(List.of(10L));
+        verify(albumService).evictArtistsWithAlbums(Set.of(1L, 7L));
+        verify(secondLevelCacheEvictor).evictLinkCollections(Set.of(1L, 7L), Set.of(10L));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+
+        assertThat(done.getLinesRead()).isEqualTo(6);
+        assertThat(done.getArtistsCreated()).isEqualTo(1);
+        assertThat(done.getArtistsSkipped()).isEqualTo(2);
+        assertThat(done.getAlbumsCreated()).isEqualTo(1);
+        assertThat(done.getLinksCreated()).isEqualTo(2);
+        assertThat(done.getErrors()).isEqualTo(1);
+        assertThat(events).extracting(ImportDTO.Progress::getEvent).containsExactly("error", "progress", "done");
+        assertThat(events.get(0).getLine()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve ler CSV com campos entre aspas e lista de artistas separada por |")
+    @SuppressWarnings("unchecked")
+    void shouldImportCsv() {
+        // Given
+        String csv = String.join("\n",
+                "type,title,releaseYear,recordLabel,artists",
+                "album,\"Cabeça Dinossauro, Ao Vivo\",1986,\"WEA \"\"Brasil\"\"\",Titãs|Arnaldo Antunes");
+        when(catalogBulkRepository.findAlbumIdsByTitles(anyCollection())).thenReturn(Map.of());
+        when(catalogBulkRepository.insertAlbums(any())).thenReturn(Map.of(CatalogBulkRepository.AlbumKey.of(
+                "Cabeça Dinossauro, Ao Vivo", List.of("Titãs", "Arnaldo Antunes")), 3L));
+        when(catalogBulkRepository.findArtistIdsByNames(anyCollection())).thenReturn(Map.of());
+
+        // When
+        ImportDTO.Progress done = importService.importCatalog(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportDTO.Format.CSV, e -> { });
+
+        // Then
+        ArgumentCaptor<List<ImportDTO.Record>> albums = ArgumentCaptor.forClass(List.class);
+        verify(catalogBulkRepository).insertAlbums(albums.capture());
+        ImportDTO.Record album = albums.getValue().get(0);
+        assertThat(album.getTitle()).isEqualTo("Cabeça Dinossauro, Ao Vivo");
+        assertThat(album.getReleaseYear()).isEqualTo(1986);
+        assertThat(album.getRecordLabel()).isEqualTo("WEA \"Brasil\"");
+        assertThat(album.getArtists()).containsExactly("Titãs", "Arnaldo Antunes");
+        verify(catalogBulkRepository, never()).insertLinks(any(), any());
+        assertThat(done.getErrors()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve distinguir álbuns de mesmo título por artistas e rejeitar vínculo com título ambíguo")
+    void shouldKeepSameTitledAlbumsOfDifferentArtistsApart() {
+        // Given: "Greatest Hits" já existe no banco, mas de outro artista
+        String ndjson = String.join("\n",
+                "{\"type\":\"album\",\"title\":\"Greatest Hits\",\"artists\":[\"Artista A\"]}",
+                "{\"type\":\"link\",\"artist\":\"Artista A\",\"album\":\"Greatest Hits\"}",
+                "{\"type\":\"link\",\"artist\":\"Artista A\",\"album\":\"greatest hits\",\"albumArtists\":[\"artista a\"]}");
+        CatalogBulkRepository.AlbumKey ofArtistB = CatalogBulkRepository.AlbumKey.of("Greatest Hits", List.of("Artista B"));
+        CatalogBulkRepository.AlbumKey ofArtistA = CatalogBulkRepository.AlbumKey.of("Greatest Hits", List.of("Artista A"));
+        when(catalogBulkRepository.findAlbumIdsByTitles(anyCollection()))
+                .thenReturn(Map.of(ofArtistB, List.of(5L)), Map.of(ofArtistB, List.of(5L), ofArtistA, List.of(6L)));
+        when(catalogBulkRepository.insertAlbums(any())).thenReturn(Map.of(ofArtistA, 6L));
+        when(catalogBulkRepository.findArtistIdsByNames(anyCollection())).thenReturn(Map.of("artista a", 1L));
+        when(catalogBulkRepository.insertLinks(any(), any())).thenReturn(1);
+        List<ImportDTO.Progress> events = new ArrayList<>();
+
+        // When
+        ImportDTO.Progress done = importService.importCatalog(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ImportDTO.Format.NDJSON, events::add);
+
+        // Then
+        verify(catalogBulkRepository).insertLinks(new Long[]{1L}, new Long[]{6L});
+        verify(albumListingRepository).refresh(List.of(6L));
+        assertThat(done.getAlbumsCreated()).isEqualTo(1);
+        assertThat(done.getErrors()).isEqualTo(1);
+        assertThat(events.get(0).getLine()).isEqualTo(2);
+        assertThat(events.get(0).getMessage()).contains("ambíguo");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar vínculos com álbuns duplicados no banco sem escolher um deles")
+    void shouldRejectLinksToDuplicatedAlbums() {
+        // Given: dois "Dois" da Legião Urbana já existem no banco
+        String ndjson = String.join("\n",
+                "{\"type\":\"album\",\"title\":\"Dois\",\"artists\":[\"Legião Urbana\"]}",
+                "{\"type\":\"link\",\"artist\":\"Titãs\",\"album\":\"Dois\"}");
+        CatalogBulkRepository.AlbumKey dois = CatalogBulkRepository.AlbumKey.of("Dois", List.of("Legião Urbana"));
+        when(catalogBulkRepository.findAlbumIdsByTitles(anyCollection())).thenReturn(Map.of(dois, List.of(10L, 11L)));
+        when(catalogBulkRepository.findArtistIdsByNames(anyCollection()))
+                .thenReturn(Map.of("legião urbana", 1L, "titãs", 7L));
+        List<ImportDTO.Progress> events = new ArrayList<>();
+
+        // When
+        ImportDTO.Progress done = importService.importCatalog(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), ImportDTO.Format.NDJSON, events::add);
+
+        // Then
+        verify(catalogBulkRepository, never()).insertAlbums(any());
+        verify(catalogBulkRepository, never()).insertLinks(any(), any());
+        verifyNoInteractions(secondLevelCacheEvictor);
+        assertThat(done.getAlbumsSkipped()).isEqualTo(1);
+        assertThat(done.getErrors()).isEqualTo(2);
+        assertThat(events).filteredOn(event -> "error".equals(event.getEvent()))
+                .extracting(ImportDTO.Progress::getMessage)
+                .containsExactlyInAnyOrder(
+                        "Álbum duplicado: Dois (2 álbuns com o mesmo título e artistas)",
+                        "Título de álbum ambíguo: Dois (2 álbuns); informe albumArtists");
+    }
+}
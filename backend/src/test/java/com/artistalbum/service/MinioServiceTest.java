@@ -0,0 +1,70 @@
+package com.artistalbum.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinioService Unit Tests")
+class MinioServiceTest {
+
+    @Mock
+    private MinioClient minioClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MinioService minioService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        minioService = new MinioService(minioClient, meterRegistry, "album-covers", 1800, 100);
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a URL pré-assinada na mesma janela sem assinar novamente")
+    void shouldReusePresignedUrlWithinWindow() throws Exception {
+        // Given
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("http://minio/capa?sig=1", "http://minio/capa?sig=2");
+
+        // When
+        String first = minioService.getPresignedUrl("albums/1/capa.jpg");
+        String second = minioService.getPresignedUrl("albums/1/capa.jpg");
+
+        // Then
+        assertThat(second).isEqualTo(first).isEqualTo("http://minio/capa?sig=1");
+        verify(minioClient, times(1)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "presigned.url").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("minio.presign").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar a URL em cache ao remover o arquivo")
+    void shouldInvalidatePresignedUrlOnDelete() throws Exception {
+        // Given
+        when(minioClient.getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("http://minio/capa?sig=1", "http://minio/capa?sig=2");
+        minioService.getPresignedUrl("albums/1/capa.jpg");
+
+        // When
+        minioService.deleteFile("albums/1/capa.jpg");
+        String afterDelete = minioService.getPresignedUrl("albums/1/capa.jpg");
+
+        // Then
+        assertThat(afterDelete).isEqualTo("http://minio/capa?sig=2");
+        verify(minioClient).removeObject(any(RemoveObjectArgs.class));
+        verify(minioClient, times(2)).getPresignedObjectUrl(any(GetPresignedObjectUrlArgs.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.CursorPage;
+import com.artistalbum.dto.SearchDTO;
+import com.artistalbum.exception.BusinessException;
+import com.artistalbum.repository.SearchRepository;
+import com.artistalbum.repository.projection.SearchHitRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchService Unit Tests")
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("Deve paginar resultados por relevância usando cursor")
+    void shouldPaginateHitsByCursor() {
+        // Given
+        SearchHitRow album = row("album", 1L, "Dois", 0.6f);
+        SearchHitRow artist = row("artist", 1L, "Legião Urbana", 0.3f);
+        when(searchRepository.searchFirstPage("legiao", 2)).thenReturn(List.of(album, artist));
+        when(searchRepository.searchPageAfter("legiao", 0.6f, "album", 1L, 2)).thenReturn(List.of(artist));
+
+        // When
+        CursorPage<SearchDTO.Hit> first = searchService.search("legiao", null, 1);
+        CursorPage<SearchDTO.Hit> second = searchService.search("legiao", first.getNextCursor(), 1);
+
+        // Then
+        assertThat(first.getContent()).extracting(SearchDTO.Hit::getLabel).containsExactly("Dois");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getContent()).extracting(SearchDTO.Hit::getType).containsExactly("artist");
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar busca sem termo")
+    void shouldRejectBlankQuery() {
+        assertThatThrownBy(() -> searchService.search(" ", null, 10))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(searchRepository);
+    }
+
+    private SearchHitRow row(String type, Long id, String label, Float rank) {
+        return new SearchHitRow() {
+            public String getType() { return type; }
+            public Long getId() { return id; }
+            public String getLabel() { return label; }
+            public Float getRank() { return rank; }
+        };
+    }
+}
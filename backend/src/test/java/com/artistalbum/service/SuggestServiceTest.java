@@ -0,0 +1,94 @@
+package com.artistalbum.service;
+
+import com.artistalbum.dto.SearchDTO;
+import com.artistalbum.event.CacheInvalidationEvent;
+import com.artistalbum.event.CatalogChangedEvent;
+import com.artistalbum.repository.AlbumRepository;
+import com.artistalbum.repository.ArtistRepository;
+import com.artistalbum.repository.projection.IdLabelRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SuggestService Unit Tests")
+class SuggestServiceTest {
+
+    @Mock
+    private AlbumRepository albumRepository;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @InjectMocks
+    private SuggestService suggestService;
+
+    @Test
+    @DisplayName("Deve reaplicar ao novo índice as alterações confirmadas durante a reconstrução")
+    void shouldReplayChangesReceivedDuringRebuild() {
+        // Given: o artista é renomeado e um álbum é criado depois da leitura dos álbuns
+        when(albumRepository.findAllLabels()).thenReturn(List.of(row(1L, "Que País É Este")));
+        when(artistRepository.findAllLabels()).thenAnswer(invocation -> {
+            suggestService.onCatalogChanged(CatalogChangedEvent.albumSaved(2L, "Dois"));
+            suggestService.onCatalogChanged(CatalogChangedEvent.artistSaved(1L, "Legião Urbana"));
+            return List.of(row(1L, "Legiao"));
+        });
+
+        // When
+        suggestService.rebuild();
+
+        // Then
+        assertThat(labels("dois")).containsExactly("Dois");
+        assertThat(labels("legiao")).containsExactly("Legião Urbana");
+        assertThat(labels("pais")).containsExactly("Que País É Este");
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o índice fora da thread que recebe o esvaziamento completo")
+    void shouldRebuildOffListenerThreadOnFullFlush() {
+        // Given
+        AtomicReference<String> loadingThread = new AtomicReference<>();
+        when(albumRepository.findAllLabels()).thenAnswer(invocation -> {
+            loadingThread.set(Thread.currentThread().getName());
+            return List.of(row(1L, "Dois"));
+        });
+        when(artistRepository.findAllLabels()).thenReturn(List.of());
+
+        // When
+        suggestService.onRemoteInvalidation(CacheInvalidationEvent.flushAll());
+
+        // Then
+        verify(artistRepository, timeout(2000)).findAllLabels();
+        assertThat(loadingThread.get()).isEqualTo("suggest-rebuild");
+        suggestService.destroy();
+    }
+
+    private List<String> labels(String query) {
+        return suggestService.suggest(query, 10).stream().map(SearchDTO.Suggestion::getLabel).toList();
+    }
+
+    private static IdLabelRow row(Long id, String label) {
+        return new IdLabelRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getLabel() {
+                return label;
+            }
+        };
+    }
+}